@@ -0,0 +1,80 @@
+package benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import engine.BattleEngine;
+import engine.BattleListener;
+import engine.BattleState;
+import engine.RandomAgent;
+import model.Battle;
+import model.PKMN;
+import model.Team;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleBenchmark {
+
+    private SplittableRandom random;
+    private RandomAgent agent;
+    private PKMN[] teamA;
+    private PKMN[] teamB;
+    private BattleState sharedState;
+
+    @Setup
+    public void setup() {
+        random = new SplittableRandom(42);
+        agent = new RandomAgent(random);
+        teamA = new PKMN[]{Battle.lucario, Battle.gengar, Battle.metagross, Battle.snorlax, Battle.dragonite,
+            Battle.garchomp};
+        teamB = new PKMN[]{Battle.scizor, Battle.greninja, Battle.tyranitar, Battle.salamence, Battle.charizard,
+            Battle.sylveon};
+        sharedState = new BattleState(buildTeam(teamA), buildTeam(teamB));
+    }
+
+    @Benchmark
+    public int randomBattle() {
+        Team team1 = buildTeam(teamA);
+        Team team2 = buildTeam(teamB);
+        return new BattleEngine(team1, agent, team2, agent, random).run().getTurns();
+    }
+
+    @Benchmark
+    public int sharedTeamBattle() {
+        sharedState.reset();
+        return new BattleEngine(sharedState, agent, agent, random, BattleListener.NONE,
+                BattleEngine.DEFAULT_MAX_TURNS).run().getTurns();
+    }
+
+    @Benchmark
+    public boolean faintTeam() {
+        sharedState.reset();
+        for (int slot = 0; slot < sharedState.getTeamSize(1); slot++) {
+            sharedState.damage(1, slot, sharedState.getHP(1, slot));
+        }
+        return sharedState.isDefeated(1);
+    }
+
+    private Team buildTeam(PKMN[] species) {
+        PKMN[] members = new PKMN[species.length];
+        for (int i = 0; i < species.length; i++) {
+            members[i] = species[i].clone(random);
+        }
+        return new Team(members);
+    }
+}
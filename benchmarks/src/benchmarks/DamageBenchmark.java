@@ -0,0 +1,51 @@
+package benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import engine.BattleEngine;
+import engine.RandomAgent;
+import model.Battle;
+import model.Move;
+import model.PKMN;
+import model.Team;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DamageBenchmark {
+
+    private BattleEngine engine;
+    private PKMN attacker;
+    private PKMN defender;
+    private Move move;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        attacker = Battle.garchomp.clone(random);
+        defender = Battle.metagross.clone(random);
+        move = attacker.getMoves()[0];
+        engine = new BattleEngine(new Team(attacker), new RandomAgent(random), new Team(defender),
+                new RandomAgent(random), random);
+    }
+
+    @Benchmark
+    public int calculateDamage() {
+        return engine.calculateDamage(attacker, move, defender);
+    }
+}
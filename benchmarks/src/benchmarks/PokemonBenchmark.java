@@ -0,0 +1,52 @@
+package benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.Battle;
+import model.PKMN;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PokemonBenchmark {
+
+    private SplittableRandom random;
+    private PKMN[] pokemon;
+
+    @Setup
+    public void setup() {
+        random = new SplittableRandom(42);
+        pokemon = new PKMN[]{Battle.lucario, Battle.gengar, Battle.metagross, Battle.snorlax, Battle.dragonite,
+            Battle.garchomp};
+    }
+
+    @Benchmark
+    public PKMN cloneWithRandom() {
+        return pokemon[0].clone(random);
+    }
+
+    @Benchmark
+    public PKMN cloneWithSharedRandom() {
+        return pokemon[0].clone();
+    }
+
+    @Benchmark
+    public int[] generateEVs() {
+        return PKMN.generateEVs(random);
+    }
+}
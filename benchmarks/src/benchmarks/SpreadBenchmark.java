@@ -0,0 +1,56 @@
+package benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.SpreadGenerator;
+import model.SpreadPreset;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpreadBenchmark {
+
+    @Param({"1024"})
+    private int count;
+
+    private SplittableRandom random;
+    private SpreadGenerator presets;
+    private int[] ivs;
+    private int[] evs;
+
+    @Setup
+    public void setup() {
+        random = new SplittableRandom(42);
+        presets = SpreadGenerator.presets(SpreadPreset.values());
+        ivs = new int[count * SpreadGenerator.STATS];
+        evs = new int[count * SpreadGenerator.STATS];
+    }
+
+    @Benchmark
+    public int[] uniformFill() {
+        SpreadGenerator.UNIFORM.fill(random, ivs, evs, count);
+        return evs;
+    }
+
+    @Benchmark
+    public int[] presetFill() {
+        presets.fill(random, ivs, evs, count);
+        return evs;
+    }
+}
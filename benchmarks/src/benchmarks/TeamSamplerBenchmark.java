@@ -0,0 +1,53 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.Dex;
+import sim.TeamConstraints;
+import sim.TeamSampler;
+import utils.DexLoader;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamSamplerBenchmark {
+
+    private SplittableRandom random;
+    private TeamSampler sampler;
+    private TeamSampler balancedSampler;
+
+    @Setup
+    public void setup() throws IOException {
+        random = new SplittableRandom(42);
+        Dex dex = DexLoader.loadDex();
+        sampler = new TeamSampler(dex, 6);
+        balancedSampler = new TeamSampler(dex, 6, TeamConstraints.NONE.withMaxPerType(2)
+                .withStatTotalBand(400, 600));
+    }
+
+    @Benchmark
+    public long sample() {
+        return sampler.sample(random);
+    }
+
+    @Benchmark
+    public long sampleBalanced() {
+        return balancedSampler.sample(random);
+    }
+}
@@ -0,0 +1,47 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.Battle;
+import model.Type;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeBenchmark {
+
+    private Type attack;
+    private Type defense1;
+    private Type defense2;
+
+    @Setup
+    public void setup() {
+        attack = Battle.tierra;
+        defense1 = Battle.acero;
+        defense2 = Battle.volador;
+    }
+
+    @Benchmark
+    public double getEffectiveness() {
+        return attack.getEffectiveness(defense1);
+    }
+
+    @Benchmark
+    public double getDualEffectiveness() {
+        return attack.getEffectiveness(defense1, defense2);
+    }
+}
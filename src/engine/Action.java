@@ -0,0 +1,25 @@
+package engine;
+
+public final class Action {
+
+    private static final int SWITCH_OFFSET = 4;
+
+    private Action() {
+    }
+
+    public static int move(int moveIndex) {
+        return moveIndex;
+    }
+
+    public static int switchTo(int teamIndex) {
+        return SWITCH_OFFSET + teamIndex;
+    }
+
+    public static boolean isSwitch(int action) {
+        return action >= SWITCH_OFFSET;
+    }
+
+    public static int index(int action) {
+        return isSwitch(action) ? action - SWITCH_OFFSET : action;
+    }
+}
@@ -0,0 +1,12 @@
+package engine;
+
+public interface BattleAgent {
+
+    default int chooseLead(BattleState state, int side) {
+        return 0;
+    }
+
+    int chooseAction(BattleState state, int side);
+
+    int chooseReplacement(BattleState state, int side);
+}
@@ -0,0 +1,177 @@
+package engine;
+
+import java.util.random.RandomGenerator;
+
+import model.Move;
+import model.PKMN;
+import model.Team;
+
+public class BattleEngine {
+
+    public static final int DEFAULT_MAX_TURNS = 1000;
+
+    private final BattleState state;
+    private final BattleAgent[] agents;
+    private final RandomGenerator random;
+    private final BattleListener listener;
+    private final int maxTurns;
+    private boolean critical;
+
+    public BattleEngine(Team team1, BattleAgent agent1, Team team2, BattleAgent agent2, RandomGenerator random) {
+        this(team1, agent1, team2, agent2, random, BattleListener.NONE, DEFAULT_MAX_TURNS);
+    }
+
+    public BattleEngine(Team team1, BattleAgent agent1, Team team2, BattleAgent agent2, RandomGenerator random,
+            BattleListener listener, int maxTurns) {
+        this(new BattleState(team1, team2), agent1, agent2, random, listener, maxTurns);
+    }
+
+    public BattleEngine(BattleState state, BattleAgent agent1, BattleAgent agent2, RandomGenerator random,
+            BattleListener listener, int maxTurns) {
+        this.state = state;
+        this.agents = new BattleAgent[]{agent1, agent2};
+        this.random = random;
+        this.listener = listener;
+        this.maxTurns = maxTurns;
+    }
+
+    public BattleState getState() {
+        return state;
+    }
+
+    public BattleResult run() {
+        int lead1 = agents[0].chooseLead(state, 0);
+        int lead2 = agents[1].chooseLead(state, 1);
+        state.setActiveSlot(0, lead1);
+        state.setActiveSlot(1, lead2);
+        return resume();
+    }
+
+    public BattleResult resume() {
+        while (!isOver()) {
+            int action1 = agents[0].chooseAction(state, 0);
+            int action2 = agents[1].chooseAction(state, 1);
+            executeTurn(action1, action2);
+            listener.turnEnded(state.getTurn());
+            replaceFainted();
+        }
+        BattleResult result = new BattleResult(getWinner(), state.getTurn());
+        listener.battleEnded(result);
+        return result;
+    }
+
+    public boolean isOver() {
+        return state.isDefeated(0) || state.isDefeated(1) || state.getTurn() >= maxTurns;
+    }
+
+    public int getWinner() {
+        if (state.isDefeated(1)) {
+            return 0;
+        } else if (state.isDefeated(0)) {
+            return 1;
+        }
+        return BattleResult.DRAW;
+    }
+
+    public void executeTurn(int action1, int action2) {
+        state.nextTurn();
+        if (Action.isSwitch(action1)) {
+            switchIn(0, Action.index(action1));
+        }
+        if (Action.isSwitch(action2)) {
+            switchIn(1, Action.index(action2));
+        }
+
+        int move1 = Action.isSwitch(action1) ? -1 : Action.index(action1);
+        int move2 = Action.isSwitch(action2) ? -1 : Action.index(action2);
+        boolean canMove1 = move1 >= 0 && state.getActive(0).getMoves()[move1] != null;
+        boolean canMove2 = move2 >= 0 && state.getActive(1).getMoves()[move2] != null;
+
+        if (canMove1 && canMove2) {
+            int first = firstAttacker(state.getActive(0).getMoves()[move1], state.getActive(1).getMoves()[move2],
+                    state.getActive(0), state.getActive(1));
+            int second = 1 - first;
+            useMove(first, (first == 0) ? move1 : move2);
+            if (!state.isActiveFainted(second)) {
+                useMove(second, (first == 0) ? move2 : move1);
+            }
+        } else if (canMove1) {
+            useMove(0, move1);
+        } else if (canMove2) {
+            useMove(1, move2);
+        }
+    }
+
+    public void replaceFainted() {
+        int replacement1 = needsReplacement(0) ? agents[0].chooseReplacement(state, 0) : -1;
+        int replacement2 = needsReplacement(1) ? agents[1].chooseReplacement(state, 1) : -1;
+        switchIn(0, replacement1);
+        switchIn(1, replacement2);
+    }
+
+    private boolean needsReplacement(int side) {
+        return state.isActiveFainted(side) && !state.isDefeated(side);
+    }
+
+    private void switchIn(int side, int slot) {
+        if (slot < 0 || slot >= state.getTeamSize(side) || state.isFainted(side, slot)) {
+            return;
+        }
+        state.setActiveSlot(side, slot);
+        listener.switched(side, state.getActive(side), slot);
+    }
+
+    public int calculateDamage(PKMN attacker, Move move, PKMN defender) {
+        critical = false;
+        if (!DamageCalculator.dealsDamage(move)) {
+            return -1;
+        }
+        critical = random.nextInt(DamageCalculator.CRITICAL_CHANCE) == 0;
+        double baseDamage = DamageCalculator.baseDamage(attacker, move, defender);
+        return DamageCalculator.damage(baseDamage, random.nextInt(DamageCalculator.ROLLS), critical);
+    }
+
+    public boolean doesAttackHit(int side, Move move) {
+        if (move.getAccuracy() == 0) {
+            return true;
+        }
+        int precisionLevel = state.getPrecisionLevel(side, state.getActiveSlot(side));
+        int evasionLevel = state.getEvasionLevel(1 - side, state.getActiveSlot(1 - side));
+        return random.nextDouble() < DamageCalculator.hitChance(move, precisionLevel, evasionLevel);
+    }
+
+    public void useMove(int side, int moveIndex) {
+        PKMN attacker = state.getActive(side);
+        PKMN defender = state.getActive(1 - side);
+        Move move = attacker.getMoves()[moveIndex];
+        state.reducePp(side, state.getActiveSlot(side), moveIndex);
+        listener.moveUsed(side, attacker, move);
+        if (doesAttackHit(side, move)) {
+            int damage = calculateDamage(attacker, move, defender);
+            if (damage > 0) {
+                state.damage(1 - side, state.getActiveSlot(1 - side), damage);
+                listener.damaged(1 - side, defender, damage, critical);
+            } else if (damage == 0) {
+                listener.noEffect(1 - side, defender);
+            }
+            if (state.isActiveFainted(1 - side)) {
+                listener.fainted(1 - side, defender);
+            }
+        } else {
+            listener.missed(side, attacker);
+        }
+    }
+
+    public int firstAttacker(Move move1, Move move2, PKMN pokemon1, PKMN pokemon2) {
+        if (move1.getPriority() > move2.getPriority()) {
+            return 0;
+        } else if (move1.getPriority() < move2.getPriority()) {
+            return 1;
+        } else if (pokemon1.getSpeed() > pokemon2.getSpeed()) {
+            return 0;
+        } else if (pokemon1.getSpeed() < pokemon2.getSpeed()) {
+            return 1;
+        }
+        return random.nextBoolean() ? 0 : 1;
+    }
+}
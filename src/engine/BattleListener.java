@@ -0,0 +1,34 @@
+package engine;
+
+import model.Move;
+import model.PKMN;
+
+public interface BattleListener {
+
+    BattleListener NONE = new BattleListener() {
+    };
+
+    default void moveUsed(int side, PKMN attacker, Move move) {
+    }
+
+    default void missed(int side, PKMN attacker) {
+    }
+
+    default void damaged(int side, PKMN defender, int damage, boolean critical) {
+    }
+
+    default void noEffect(int side, PKMN defender) {
+    }
+
+    default void fainted(int side, PKMN pokemon) {
+    }
+
+    default void switched(int side, PKMN pokemon, int teamIndex) {
+    }
+
+    default void turnEnded(int turn) {
+    }
+
+    default void battleEnded(BattleResult result) {
+    }
+}
@@ -0,0 +1,121 @@
+package engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import model.Dex;
+import model.PKMN;
+import model.Team;
+
+public class BattleReplay {
+
+    private final long seed;
+    private final int[][] teams;
+    private final DecisionLog[] logs;
+    private final int winner;
+    private final int turns;
+
+    private BattleReplay(long seed, int[][] teams, DecisionLog[] logs, int winner, int turns) {
+        this.seed = seed;
+        this.teams = teams;
+        this.logs = logs;
+        this.winner = winner;
+        this.turns = turns;
+    }
+
+    public static BattleReplay record(Dex dex, int[] team1, int[] team2, BattleAgent agent1, BattleAgent agent2,
+            long seed) {
+        DecisionLog[] logs = {new DecisionLog(), new DecisionLog()};
+        BattleResult result = play(dex, new int[][]{team1, team2}, new RecordingAgent(agent1, logs[0]),
+                new RecordingAgent(agent2, logs[1]), seed, BattleListener.NONE);
+        return new BattleReplay(seed, new int[][]{team1.clone(), team2.clone()}, logs, result.getWinner(),
+                result.getTurns());
+    }
+
+    public BattleResult replay(Dex dex, BattleListener listener) {
+        BattleResult result = play(dex, teams, new ReplayAgent(logs[0]), new ReplayAgent(logs[1]), seed, listener);
+        if (result.getWinner() != winner || result.getTurns() != turns) {
+            throw new IllegalStateException("La repetición no coincide con la batalla original");
+        }
+        return result;
+    }
+
+    public static BattleResult play(Dex dex, int[][] teams, BattleAgent agent1, BattleAgent agent2, long seed,
+            BattleListener listener) {
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom teamRandom = root.split();
+        SplittableRandom battleRandom = root.split();
+        Team team1 = buildTeam(dex, teams[0], teamRandom);
+        Team team2 = buildTeam(dex, teams[1], teamRandom);
+        return new BattleEngine(team1, agent1, team2, agent2, battleRandom, listener, BattleEngine.DEFAULT_MAX_TURNS)
+                .run();
+    }
+
+    public static Team buildTeam(Dex dex, int[] dexNumbers, RandomGenerator random) {
+        PKMN[] members = new PKMN[dexNumbers.length];
+        for (int i = 0; i < dexNumbers.length; i++) {
+            PKMN pokemon = dex.getPKMN(dexNumbers[i]);
+            if (pokemon == null) {
+                throw new IllegalArgumentException("Número Pokédex inválido: " + dexNumbers[i]);
+            }
+            members[i] = pokemon.clone(random);
+        }
+        return new Team(members);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public int sizeInBytes() {
+        int size = 8 + 1 + 2;
+        for (int side = 0; side < 2; side++) {
+            size += 1 + teams[side].length * 2 + 2 + (logs[side].size() + 1) / 2;
+        }
+        return size;
+    }
+
+    public void write(DataOutput out) throws IOException {
+        out.writeLong(seed);
+        out.writeByte(winner);
+        out.writeShort(turns);
+        for (int side = 0; side < 2; side++) {
+            out.writeByte(teams[side].length);
+            for (int dexNumber : teams[side]) {
+                out.writeShort(dexNumber);
+            }
+            out.writeShort(logs[side].size());
+            out.write(logs[side].toByteArray());
+        }
+    }
+
+    public static BattleReplay read(DataInput in) throws IOException {
+        long seed = in.readLong();
+        int winner = in.readByte();
+        int turns = in.readUnsignedShort();
+        int[][] teams = new int[2][];
+        DecisionLog[] logs = new DecisionLog[2];
+        for (int side = 0; side < 2; side++) {
+            teams[side] = new int[in.readUnsignedByte()];
+            for (int i = 0; i < teams[side].length; i++) {
+                teams[side][i] = in.readUnsignedShort();
+            }
+            int decisions = in.readUnsignedShort();
+            byte[] data = new byte[(decisions + 1) / 2];
+            in.readFully(data);
+            logs[side] = new DecisionLog(data, decisions);
+        }
+        return new BattleReplay(seed, teams, logs, winner, turns);
+    }
+}
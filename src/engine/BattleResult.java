@@ -0,0 +1,26 @@
+package engine;
+
+public class BattleResult {
+
+    public static final int DRAW = -1;
+
+    private final int winner;
+    private final int turns;
+
+    public BattleResult(int winner, int turns) {
+        this.winner = winner;
+        this.turns = turns;
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public boolean isDraw() {
+        return winner == DRAW;
+    }
+}
@@ -0,0 +1,186 @@
+package engine;
+
+import java.util.Arrays;
+
+import model.Move;
+import model.PKMN;
+import model.Team;
+
+public final class BattleState {
+
+    public static final int SIDES = 2;
+    public static final int MAX_TEAM_SIZE = 6;
+    public static final int MOVES = 4;
+    public static final int STATUS_NORMAL = 0;
+
+    private static final int ACTIVE = 0;
+    private static final int TURN = 2;
+    private static final int ALIVE = 3;
+    private static final int HEADER = 5;
+    private static final int SLOT_SIZE = 2 + MOVES;
+    private static final int HP = 0;
+    private static final int FLAGS = 1;
+    private static final int PP = 2;
+    private static final int LENGTH = HEADER + SIDES * MAX_TEAM_SIZE * SLOT_SIZE;
+
+    private final Team[] teams;
+    private final int[] data;
+
+    public BattleState(Team team1, Team team2) {
+        if (team1.getTeamSize() > MAX_TEAM_SIZE || team2.getTeamSize() > MAX_TEAM_SIZE) {
+            throw new IllegalArgumentException("Un equipo no puede tener más de " + MAX_TEAM_SIZE + " Pokémon");
+        }
+        this.teams = new Team[]{team1, team2};
+        this.data = new int[LENGTH];
+        reset();
+    }
+
+    private BattleState(Team[] teams, int[] data) {
+        this.teams = teams;
+        this.data = data;
+    }
+
+    public BattleState copy() {
+        int[] copy = new int[LENGTH];
+        System.arraycopy(data, 0, copy, 0, LENGTH);
+        return new BattleState(teams, copy);
+    }
+
+    public void copyFrom(BattleState other) {
+        System.arraycopy(other.data, 0, data, 0, LENGTH);
+    }
+
+    public void reset() {
+        Arrays.fill(data, 0);
+        for (int side = 0; side < SIDES; side++) {
+            for (int slot = 0; slot < teams[side].getTeamSize(); slot++) {
+                PKMN pokemon = teams[side].getPokemon(slot);
+                int base = slotBase(side, slot);
+                data[base + HP] = pokemon.getHP();
+                data[base + FLAGS] = packFlags(0, 0, STATUS_NORMAL);
+                Move[] moves = pokemon.getMoves();
+                for (int move = 0; move < MOVES; move++) {
+                    data[base + PP + move] = (moves[move] == null) ? 0 : moves[move].getPp();
+                }
+                if (pokemon.getHP() > 0) {
+                    data[ALIVE + side] |= 1 << slot;
+                }
+            }
+        }
+    }
+
+    public Team getTeam(int side) {
+        return teams[side];
+    }
+
+    public int getTeamSize(int side) {
+        return teams[side].getTeamSize();
+    }
+
+    public PKMN getPokemon(int side, int slot) {
+        return teams[side].getPokemon(slot);
+    }
+
+    public int getActiveSlot(int side) {
+        return data[ACTIVE + side];
+    }
+
+    public void setActiveSlot(int side, int slot) {
+        data[ACTIVE + side] = slot;
+    }
+
+    public PKMN getActive(int side) {
+        return teams[side].getPokemon(data[ACTIVE + side]);
+    }
+
+    public int getTurn() {
+        return data[TURN];
+    }
+
+    public void nextTurn() {
+        data[TURN]++;
+    }
+
+    public int getHP(int side, int slot) {
+        return data[slotBase(side, slot) + HP];
+    }
+
+    public int getActiveHP(int side) {
+        return getHP(side, data[ACTIVE + side]);
+    }
+
+    public void damage(int side, int slot, int amount) {
+        int base = slotBase(side, slot);
+        data[base + HP] = Math.max(0, data[base + HP] - amount);
+        if (data[base + HP] == 0) {
+            data[ALIVE + side] &= ~(1 << slot);
+        }
+    }
+
+    public boolean isFainted(int side, int slot) {
+        return (data[ALIVE + side] & (1 << slot)) == 0;
+    }
+
+    public boolean isActiveFainted(int side) {
+        return isFainted(side, data[ACTIVE + side]);
+    }
+
+    public int getAliveMask(int side) {
+        return data[ALIVE + side];
+    }
+
+    public int getAliveCount(int side) {
+        return Integer.bitCount(data[ALIVE + side]);
+    }
+
+    public boolean isDefeated(int side) {
+        return data[ALIVE + side] == 0;
+    }
+
+    public int getPp(int side, int slot, int move) {
+        return data[slotBase(side, slot) + PP + move];
+    }
+
+    public void reducePp(int side, int slot, int move) {
+        int index = slotBase(side, slot) + PP + move;
+        if (data[index] > 0) {
+            data[index]--;
+        }
+    }
+
+    public int getPrecisionLevel(int side, int slot) {
+        return (byte) data[slotBase(side, slot) + FLAGS];
+    }
+
+    public int getEvasionLevel(int side, int slot) {
+        return (byte) (data[slotBase(side, slot) + FLAGS] >> 8);
+    }
+
+    public int getStatus(int side, int slot) {
+        return data[slotBase(side, slot) + FLAGS] >>> 16;
+    }
+
+    public void setFlags(int side, int slot, int precisionLevel, int evasionLevel, int status) {
+        data[slotBase(side, slot) + FLAGS] = packFlags(precisionLevel, evasionLevel, status);
+    }
+
+    public long hash() {
+        long hash = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < LENGTH; i++) {
+            if (i == TURN) {
+                continue;
+            }
+            hash = (hash ^ data[i]) * 0xBF58476D1CE4E5B9L;
+            hash ^= hash >>> 31;
+        }
+        return hash;
+    }
+
+    private static int packFlags(int precisionLevel, int evasionLevel, int status) {
+        return (precisionLevel & 0xFF) | ((evasionLevel & 0xFF) << 8) | (status << 16);
+    }
+
+    private static int slotBase(int side, int slot) {
+        return HEADER + (side * MAX_TEAM_SIZE + slot) * SLOT_SIZE;
+    }
+}
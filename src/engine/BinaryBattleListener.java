@@ -0,0 +1,88 @@
+package engine;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import model.Move;
+import model.PKMN;
+
+public class BinaryBattleListener implements BattleListener {
+
+    public static final byte MOVE_USED = 1;
+    public static final byte MISSED = 2;
+    public static final byte DAMAGED = 3;
+    public static final byte CRITICAL_DAMAGED = 4;
+    public static final byte NO_EFFECT = 5;
+    public static final byte FAINTED = 6;
+    public static final byte SWITCHED = 7;
+    public static final byte TURN_ENDED = 8;
+    public static final byte BATTLE_ENDED = 9;
+
+    private final DataOutputStream out;
+
+    public BinaryBattleListener(OutputStream out) {
+        this.out = new DataOutputStream(out);
+    }
+
+    @Override
+    public void moveUsed(int side, PKMN attacker, Move move) {
+        int index = 0;
+        Move[] moves = attacker.getMoves();
+        while (index < moves.length && moves[index] != move) {
+            index++;
+        }
+        write(MOVE_USED, side, index);
+    }
+
+    @Override
+    public void missed(int side, PKMN attacker) {
+        write(MISSED, side, 0);
+    }
+
+    @Override
+    public void damaged(int side, PKMN defender, int damage, boolean critical) {
+        write(critical ? CRITICAL_DAMAGED : DAMAGED, side, damage);
+    }
+
+    @Override
+    public void noEffect(int side, PKMN defender) {
+        write(NO_EFFECT, side, 0);
+    }
+
+    @Override
+    public void fainted(int side, PKMN pokemon) {
+        write(FAINTED, side, 0);
+    }
+
+    @Override
+    public void switched(int side, PKMN pokemon, int teamIndex) {
+        write(SWITCHED, side, teamIndex);
+    }
+
+    @Override
+    public void turnEnded(int turn) {
+        write(TURN_ENDED, 0, turn);
+    }
+
+    @Override
+    public void battleEnded(BattleResult result) {
+        write(BATTLE_ENDED, result.getWinner() & 0xFF, result.getTurns());
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(byte event, int side, int value) {
+        try {
+            out.writeByte(event);
+            out.writeByte(side);
+            out.writeShort(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
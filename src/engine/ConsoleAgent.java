@@ -0,0 +1,112 @@
+package engine;
+
+import java.util.InputMismatchException;
+import java.util.Scanner;
+
+import model.PKMN;
+
+public class ConsoleAgent implements BattleAgent {
+
+    private final Scanner scan;
+
+    public ConsoleAgent(Scanner scan) {
+        this.scan = scan;
+    }
+
+    @Override
+    public int chooseAction(BattleState state, int side) {
+        PKMN own = state.getActive(side);
+        showBattleInfo(state, side);
+        int choice = 1;
+        if (state.getAliveCount(side) > 1) {
+            choice = -1;
+            while (choice < 1 || choice > 2) {
+                try {
+                    System.out.println("\nElige una opción:");
+                    System.out.println("1. Atacar");
+                    System.out.println("2. Cambiar Pokémon");
+                    choice = scan.nextInt();
+                    if (choice < 1 || choice > 2) {
+                        System.out.println("Opción inválida.");
+                    }
+                } catch (InputMismatchException e) {
+                    System.out.println("Entrada no válida. Ingresa un número.");
+                    scan.nextLine();
+                }
+            }
+        }
+        if (choice == 1) {
+            return Action.move(selectMove(own));
+        }
+        return Action.switchTo(changePokemon(state, side));
+    }
+
+    @Override
+    public int chooseReplacement(BattleState state, int side) {
+        return changePokemon(state, side);
+    }
+
+    private int selectMove(PKMN pokemon) {
+        int moveN = -1;
+        pokemon.showMoves();
+        System.out.println("\nIngresa el Nº para seleccionar un movimiento:");
+        do {
+            try {
+                moveN = scan.nextInt() - 1;
+                if (moveN < 0 || moveN >= pokemon.getMoves().length) {
+                    System.out.println("Entrada inválida");
+                }
+            } catch (InputMismatchException e) {
+                System.err.println("Entrada inválida");
+                scan.nextLine();
+            }
+        } while (moveN < 0 || moveN >= pokemon.getMoves().length);
+        return moveN;
+    }
+
+    private int changePokemon(BattleState state, int side) {
+        int index = -1;
+        System.out.println("\nSelecciona un pokemon para continuar: ");
+        showTeam(state, side);
+        do {
+            try {
+                index = scan.nextInt() - 1;
+                if (!isAvailable(state, side, index)) {
+                    System.out.println("Entrada inválida. Intentalo de nuevo.");
+                }
+            } catch (InputMismatchException e) {
+                System.out.println("Entrada inválida. Intentalo de nuevo.");
+                scan.nextLine();
+            }
+        } while (!isAvailable(state, side, index));
+        return index;
+    }
+
+    private static boolean isAvailable(BattleState state, int side, int index) {
+        return index >= 0 && index < state.getTeamSize(side) && index != state.getActiveSlot(side)
+                && !state.isFainted(side, index);
+    }
+
+    private static void showTeam(BattleState state, int side) {
+        for (int slot = 0; slot < state.getTeamSize(side); slot++) {
+            PKMN pokemon = state.getPokemon(side, slot);
+            if (state.isFainted(side, slot)) {
+                System.out.println((slot + 1) + ". " + pokemon.getName() + " (debilitado)");
+            } else if (slot == state.getActiveSlot(side)) {
+                System.out.println((slot + 1) + ". " + pokemon.getName() + " (en combate)");
+            } else {
+                System.out.printf("%d. %s (HP: %s/%s)%n", slot + 1, pokemon.getName(), state.getHP(side, slot),
+                        pokemon.getHP());
+            }
+        }
+    }
+
+    private static void showBattleInfo(BattleState state, int side) {
+        PKMN rivalPokemon = state.getActive(1 - side);
+        PKMN ownPokemon = state.getActive(side);
+        System.out.println("\nPokemon del rival: " + rivalPokemon.getName());
+        System.out.printf("HP: %s/%s%n", state.getActiveHP(1 - side), rivalPokemon.getHP());
+        System.out.println("\nTu pokemon: " + ownPokemon.getName());
+        System.out.printf("HP: %s/%s%n", state.getActiveHP(side), ownPokemon.getHP());
+    }
+}
@@ -0,0 +1,147 @@
+package engine;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import model.Move;
+import model.MoveCategory;
+import model.PKMN;
+
+public final class DamageCalculator {
+
+    public static final int ROLLS = 16;
+    public static final int CRITICAL_CHANCE = 24;
+    public static final int MAX_CACHE_SIZE = 1 << 20;
+
+    private static final Map<Long, DamageDistribution> cache = new ConcurrentHashMap<>();
+
+    private DamageCalculator() {
+    }
+
+    public static boolean dealsDamage(Move move) {
+        return move.getPower() != 0;
+    }
+
+    public static double baseDamage(PKMN attacker, Move move, PKMN defender) {
+        int attack;
+        int defense;
+        if (move.getCategory() == MoveCategory.SPECIAL) {
+            attack = attacker.getSpecialAttack();
+            defense = defender.getSpecialDefense();
+        } else {
+            attack = attacker.getAttack();
+            defense = defender.getDefense();
+        }
+        int level = attacker.getlevel();
+        double stab = isStab(attacker, move) ? 1.5 : 1.0;
+        double effectiveness = move.getType().getEffectiveness(defender.getType1(), defender.getType2());
+        double baseDamage = ((level * 2.0 / 5.0 + 2) * move.getPower() * ((double) attack / defense)) / 50.0 + 2;
+        return baseDamage * stab * effectiveness;
+    }
+
+    public static int damage(double baseDamage, int roll, boolean critical) {
+        double modifier = (85 + roll) * 0.01;
+        return (int) (baseDamage * modifier * (critical ? 1.5 : 1.0));
+    }
+
+    public static double hitChance(PKMN attacker, PKMN defender, Move move) {
+        if (move.getAccuracy() == 0) {
+            return 1.0;
+        }
+        return Math.min(1.0, 0.01 * move.getAccuracy() * (attacker.getPrecision() / defender.getEvasion()));
+    }
+
+    public static double hitChance(Move move, int precisionLevel, int evasionLevel) {
+        if (move.getAccuracy() == 0) {
+            return 1.0;
+        }
+        double ratio = PKMN.calculateModifier(precisionLevel) / PKMN.calculateModifier(evasionLevel);
+        return Math.min(1.0, 0.01 * move.getAccuracy() * ratio);
+    }
+
+    public static DamageDistribution distribution(PKMN attacker, Move move, PKMN defender) {
+        if (!dealsDamage(move)) {
+            return new DamageDistribution(new int[0], new double[0], hitChance(attacker, defender, move));
+        }
+        long key = cacheKey(attacker, move, defender);
+        DamageDistribution distribution = cache.get(key);
+        if (distribution == null) {
+            distribution = enumerate(baseDamage(attacker, move, defender), hitChance(attacker, defender, move));
+            if (cache.size() >= MAX_CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.put(key, distribution);
+        }
+        return distribution;
+    }
+
+    public static double[] koProbabilities(PKMN attacker, Move move, PKMN defender, int maxHits) {
+        return distribution(attacker, move, defender).getKoProbabilities(defender.getCurrentHP(), maxHits);
+    }
+
+    public static double[] koProbabilities(PKMN attacker, Move move, PKMN defender, int defenderHP, int maxHits) {
+        return distribution(attacker, move, defender).getKoProbabilities(defenderHP, maxHits);
+    }
+
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    public static int cacheSize() {
+        return cache.size();
+    }
+
+    private static DamageDistribution enumerate(double baseDamage, double hitChance) {
+        int[] values = new int[ROLLS * 2];
+        double[] weights = new double[ROLLS * 2];
+        int count = 0;
+        double normal = (CRITICAL_CHANCE - 1.0) / CRITICAL_CHANCE / ROLLS;
+        double critical = 1.0 / CRITICAL_CHANCE / ROLLS;
+        for (int roll = 0; roll < ROLLS; roll++) {
+            count = add(values, weights, count, damage(baseDamage, roll, false), normal);
+            count = add(values, weights, count, damage(baseDamage, roll, true), critical);
+        }
+        int[] damages = new int[count];
+        double[] probabilities = new double[count];
+        System.arraycopy(values, 0, damages, 0, count);
+        System.arraycopy(weights, 0, probabilities, 0, count);
+        return new DamageDistribution(damages, probabilities, hitChance);
+    }
+
+    private static int add(int[] values, double[] weights, int count, int value, double weight) {
+        int index = 0;
+        while (index < count && values[index] < value) {
+            index++;
+        }
+        if (index < count && values[index] == value) {
+            weights[index] += weight;
+            return count;
+        }
+        System.arraycopy(values, index, values, index + 1, count - index);
+        System.arraycopy(weights, index, weights, index + 1, count - index);
+        values[index] = value;
+        weights[index] = weight;
+        return count + 1;
+    }
+
+    private static boolean isStab(PKMN attacker, Move move) {
+        return attacker.getType1().equals(move.getType()) || attacker.getType2().equals(move.getType());
+    }
+
+    private static long cacheKey(PKMN attacker, Move move, PKMN defender) {
+        boolean special = move.getCategory() == MoveCategory.SPECIAL;
+        int attack = special ? attacker.getSpecialAttack() : attacker.getAttack();
+        int defense = special ? defender.getSpecialDefense() : defender.getDefense();
+        int quarters = (int) Math.round(4 * move.getType().getEffectiveness(defender.getType1(), defender.getType2()));
+        long key = attacker.getlevel() & 0x7F;
+        key = (key << 9) | (move.getPower() & 0x1FF);
+        key = (key << 11) | (attack & 0x7FF);
+        key = (key << 11) | (defense & 0x7FF);
+        key = (key << 1) | (isStab(attacker, move) ? 1 : 0);
+        key = (key << 5) | (quarters & 0x1F);
+        key = (key << 7) | (move.getAccuracy() & 0x7F);
+        key = (key << 4) | ((attacker.getPrecisionLevel() + 6) & 0xF);
+        key = (key << 4) | ((defender.getEvasionLevel() + 6) & 0xF);
+        return key;
+    }
+}
@@ -0,0 +1,91 @@
+package engine;
+
+import java.util.Arrays;
+
+public class DamageDistribution {
+
+    private final int[] damages;
+    private final double[] probabilities;
+    private final double hitChance;
+
+    DamageDistribution(int[] damages, double[] probabilities, double hitChance) {
+        this.damages = damages;
+        this.probabilities = probabilities;
+        this.hitChance = hitChance;
+    }
+
+    public int size() {
+        return damages.length;
+    }
+
+    public int getDamage(int index) {
+        return damages[index];
+    }
+
+    public double getProbability(int index) {
+        return probabilities[index];
+    }
+
+    public double getHitChance() {
+        return hitChance;
+    }
+
+    public int getMinDamage() {
+        return damages.length == 0 ? 0 : damages[0];
+    }
+
+    public int getMaxDamage() {
+        return damages.length == 0 ? 0 : damages[damages.length - 1];
+    }
+
+    public double getExpectedDamage() {
+        double expected = 0;
+        for (int i = 0; i < damages.length; i++) {
+            expected += damages[i] * probabilities[i];
+        }
+        return expected * hitChance;
+    }
+
+    public double getKoProbability(int hp, int hits) {
+        if (hp <= 0) {
+            return 1.0;
+        }
+        return hits <= 0 ? 0.0 : getKoProbabilities(hp, hits)[hits - 1];
+    }
+
+    public double[] getKoProbabilities(int hp, int maxHits) {
+        double[] result = new double[Math.max(maxHits, 0)];
+        if (hp <= 0) {
+            Arrays.fill(result, 1.0);
+            return result;
+        }
+        double[] remaining = new double[hp + 1];
+        double[] next = new double[hp + 1];
+        remaining[hp] = 1.0;
+        double knockedOut = 0.0;
+        for (int hit = 0; hit < result.length; hit++) {
+            Arrays.fill(next, 0.0);
+            for (int current = 1; current <= hp; current++) {
+                double p = remaining[current];
+                if (p == 0.0) {
+                    continue;
+                }
+                next[current] += p * (1 - hitChance);
+                for (int i = 0; i < damages.length; i++) {
+                    int left = current - damages[i];
+                    double q = p * hitChance * probabilities[i];
+                    if (left <= 0) {
+                        knockedOut += q;
+                    } else {
+                        next[left] += q;
+                    }
+                }
+            }
+            double[] swap = remaining;
+            remaining = next;
+            next = swap;
+            result[hit] = knockedOut;
+        }
+        return result;
+    }
+}
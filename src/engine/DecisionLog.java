@@ -0,0 +1,56 @@
+package engine;
+
+import java.util.Arrays;
+
+public class DecisionLog {
+
+    private byte[] data;
+    private int size;
+    private int position;
+
+    public DecisionLog() {
+        data = new byte[16];
+    }
+
+    DecisionLog(byte[] data, int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    public void append(int decision) {
+        if (decision < 0 || decision > 0xF) {
+            throw new IllegalArgumentException("Decisión fuera de rango: " + decision);
+        }
+        int index = size >> 1;
+        if (index == data.length) {
+            data = Arrays.copyOf(data, Math.max(16, data.length * 2));
+        }
+        if ((size & 1) == 0) {
+            data[index] = (byte) decision;
+        } else {
+            data[index] |= (byte) (decision << 4);
+        }
+        size++;
+    }
+
+    public int next() {
+        if (position >= size) {
+            throw new IllegalStateException("La repetición no contiene más decisiones");
+        }
+        int value = data[position >> 1] >> ((position & 1) * 4);
+        position++;
+        return value & 0xF;
+    }
+
+    public void rewind() {
+        position = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(data, (size + 1) >> 1);
+    }
+}
@@ -0,0 +1,30 @@
+package engine;
+
+public enum Difficulty {
+
+    EASY("Fácil", 64, 50),
+    MEDIUM("Medio", 512, 250),
+    HARD("Difícil", 4096, 1000);
+
+    private final String name;
+    private final int rollouts;
+    private final long timeBudgetMillis;
+
+    Difficulty(String name, int rollouts, long timeBudgetMillis) {
+        this.name = name;
+        this.rollouts = rollouts;
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getRollouts() {
+        return rollouts;
+    }
+
+    public long getTimeBudgetMillis() {
+        return timeBudgetMillis;
+    }
+}
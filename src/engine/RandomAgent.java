@@ -0,0 +1,51 @@
+package engine;
+
+import java.util.random.RandomGenerator;
+
+import model.Move;
+
+public class RandomAgent implements BattleAgent {
+
+    private final RandomGenerator random;
+
+    public RandomAgent(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public int chooseLead(BattleState state, int side) {
+        return random.nextInt(state.getTeamSize(side));
+    }
+
+    @Override
+    public int chooseAction(BattleState state, int side) {
+        Move[] moves = state.getActive(side).getMoves();
+        int available = 0;
+        for (Move move : moves) {
+            if (move != null) {
+                available++;
+            }
+        }
+        if (available == 0) {
+            return Action.move(0);
+        }
+        int pick = random.nextInt(available);
+        for (int i = 0; i < moves.length; i++) {
+            if (moves[i] != null && pick-- == 0) {
+                return Action.move(i);
+            }
+        }
+        return Action.move(0);
+    }
+
+    @Override
+    public int chooseReplacement(BattleState state, int side) {
+        int pick = random.nextInt(state.getAliveCount(side));
+        for (int slot = 0; slot < state.getTeamSize(side); slot++) {
+            if (!state.isFainted(side, slot) && pick-- == 0) {
+                return slot;
+            }
+        }
+        return state.getActiveSlot(side);
+    }
+}
@@ -0,0 +1,32 @@
+package engine;
+
+public class RecordingAgent implements BattleAgent {
+
+    private final BattleAgent agent;
+    private final DecisionLog log;
+
+    public RecordingAgent(BattleAgent agent, DecisionLog log) {
+        this.agent = agent;
+        this.log = log;
+    }
+
+    @Override
+    public int chooseLead(BattleState state, int side) {
+        return record(agent.chooseLead(state, side));
+    }
+
+    @Override
+    public int chooseAction(BattleState state, int side) {
+        return record(agent.chooseAction(state, side));
+    }
+
+    @Override
+    public int chooseReplacement(BattleState state, int side) {
+        return record(agent.chooseReplacement(state, side));
+    }
+
+    private int record(int decision) {
+        log.append(decision);
+        return decision;
+    }
+}
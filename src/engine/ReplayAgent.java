@@ -0,0 +1,26 @@
+package engine;
+
+public class ReplayAgent implements BattleAgent {
+
+    private final DecisionLog log;
+
+    public ReplayAgent(DecisionLog log) {
+        this.log = log;
+        log.rewind();
+    }
+
+    @Override
+    public int chooseLead(BattleState state, int side) {
+        return log.next();
+    }
+
+    @Override
+    public int chooseAction(BattleState state, int side) {
+        return log.next();
+    }
+
+    @Override
+    public int chooseReplacement(BattleState state, int side) {
+        return log.next();
+    }
+}
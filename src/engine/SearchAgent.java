@@ -0,0 +1,275 @@
+package engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import model.Move;
+import model.PKMN;
+
+public class SearchAgent implements BattleAgent {
+
+    public static final int ROLLOUT_TURNS = 60;
+    public static final int TREE_DEPTH = 8;
+    public static final int TABLE_BITS = 18;
+
+    private static final double EXPLORATION = 1.4;
+    private static final long PLACEMENT = 0x5851F42D4C957F2DL;
+
+    private final int rollouts;
+    private final long timeBudgetNanos;
+    private final int threads;
+    private final SplittableRandom random;
+    private final TranspositionTable table = new TranspositionTable(TABLE_BITS);
+    private long lastNodes;
+    private long lastNanos;
+    private long totalNodes;
+    private long totalNanos;
+
+    public SearchAgent(Difficulty difficulty, long seed) {
+        this(difficulty.getRollouts(), difficulty.getTimeBudgetMillis(), Runtime.getRuntime().availableProcessors(),
+                seed);
+    }
+
+    public SearchAgent(int rollouts, long timeBudgetMillis, int threads, long seed) {
+        if (rollouts < 1 || threads < 1) {
+            throw new IllegalArgumentException("El presupuesto de búsqueda y los hilos deben ser positivos");
+        }
+        this.rollouts = rollouts;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.threads = threads;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public int chooseLead(BattleState state, int side) {
+        return search(state, side, aliveSlots(state, side), true);
+    }
+
+    @Override
+    public int chooseAction(BattleState state, int side) {
+        return search(state, side, legalActions(state, side), false);
+    }
+
+    @Override
+    public int chooseReplacement(BattleState state, int side) {
+        return search(state, side, aliveSlots(state, side), true);
+    }
+
+    public long getLastNodes() {
+        return lastNodes;
+    }
+
+    public double getLastNodesPerSecond() {
+        return lastNanos == 0 ? 0.0 : lastNodes * 1e9 / lastNanos;
+    }
+
+    public long getTotalNodes() {
+        return totalNodes;
+    }
+
+    public double getNodesPerSecond() {
+        return totalNanos == 0 ? 0.0 : totalNodes * 1e9 / totalNanos;
+    }
+
+    public static int[] legalActions(BattleState state, int side) {
+        int[] actions = new int[BattleState.MOVES + BattleState.MAX_TEAM_SIZE];
+        int count = 0;
+        Move[] moves = state.getActive(side).getMoves();
+        for (int i = 0; i < moves.length; i++) {
+            if (moves[i] != null) {
+                actions[count++] = Action.move(i);
+            }
+        }
+        if (count == 0) {
+            actions[count++] = Action.move(0);
+        }
+        for (int slot = 0; slot < state.getTeamSize(side); slot++) {
+            if (slot != state.getActiveSlot(side) && !state.isFainted(side, slot)) {
+                actions[count++] = Action.switchTo(slot);
+            }
+        }
+        int[] legal = new int[count];
+        System.arraycopy(actions, 0, legal, 0, count);
+        return legal;
+    }
+
+    private static int[] aliveSlots(BattleState state, int side) {
+        int[] slots = new int[state.getAliveCount(side)];
+        int count = 0;
+        for (int slot = 0; slot < state.getTeamSize(side); slot++) {
+            if (!state.isFainted(side, slot)) {
+                slots[count++] = slot;
+            }
+        }
+        return slots;
+    }
+
+    private int search(BattleState root, int side, int[] candidates, boolean placement) {
+        if (candidates.length == 1) {
+            return candidates[0];
+        }
+        long start = System.nanoTime();
+        long deadline = start + timeBudgetNanos;
+        long[] keys = actionKeys(placement ? root.hash() ^ PLACEMENT : root.hash(), side, candidates);
+        AtomicInteger remaining = new AtomicInteger(rollouts);
+        AtomicLong nodes = new AtomicLong();
+
+        if (threads == 1) {
+            rollouts(root, side, candidates, keys, placement, split(), remaining, nodes, deadline);
+        } else {
+            List<Callable<Void>> workers = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                SplittableRandom workerRandom = split();
+                workers.add(() -> {
+                    rollouts(root, side, candidates, keys, placement, workerRandom, remaining, nodes, deadline);
+                    return null;
+                });
+            }
+            try {
+                for (Future<Void> future : ForkJoinPool.commonPool().invokeAll(workers)) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Error durante la búsqueda", e.getCause());
+            }
+        }
+
+        int best = 0;
+        for (int i = 1; i < candidates.length; i++) {
+            if (table.getVisits(keys[i]) > table.getVisits(keys[best])
+                    || (table.getVisits(keys[i]) == table.getVisits(keys[best])
+                    && table.getMean(keys[i]) > table.getMean(keys[best]))) {
+                best = i;
+            }
+        }
+        lastNodes = nodes.get();
+        lastNanos = System.nanoTime() - start;
+        totalNodes += lastNodes;
+        totalNanos += lastNanos;
+        return candidates[best];
+    }
+
+    private void rollouts(BattleState root, int side, int[] candidates, long[] keys, boolean placement,
+            SplittableRandom workerRandom, AtomicInteger remaining, AtomicLong nodes, long deadline) {
+        BattleState scratch = root.copy();
+        RandomAgent agent = new RandomAgent(workerRandom);
+        long[] path = new long[1 + 2 * (TREE_DEPTH + 1)];
+        int[] pathSides = new int[path.length];
+        int[] rivalActions = legalActions(root, 1 - side);
+        long[] rivalKeys = actionKeys(root.hash(), 1 - side, rivalActions);
+        while (remaining.getAndDecrement() > 0 && System.nanoTime() < deadline) {
+            scratch.copyFrom(root);
+            BattleEngine engine = new BattleEngine(scratch, agent, agent, workerRandom, BattleListener.NONE,
+                    root.getTurn() + ROLLOUT_TURNS);
+            int choice = select(keys);
+            path[0] = keys[choice];
+            pathSides[0] = side;
+            int length = 1;
+            boolean expanded = false;
+            if (placement) {
+                scratch.setActiveSlot(side, candidates[choice]);
+                engine.replaceFainted();
+            } else {
+                int rival = select(rivalKeys);
+                path[length] = rivalKeys[rival];
+                pathSides[length++] = 1 - side;
+                expanded = table.getVisits(keys[choice]) == 0;
+                int own = candidates[choice];
+                engine.executeTurn(side == 0 ? own : rivalActions[rival], side == 0 ? rivalActions[rival] : own);
+                engine.replaceFainted();
+            }
+            for (int depth = 0; depth < TREE_DEPTH && !expanded && !engine.isOver(); depth++) {
+                long state = scratch.hash();
+                int[] actions = new int[BattleState.SIDES];
+                for (int player = 0; player < BattleState.SIDES; player++) {
+                    int[] legal = legalActions(scratch, player);
+                    long[] playerKeys = actionKeys(state, player, legal);
+                    int pick = select(playerKeys);
+                    expanded |= table.getVisits(playerKeys[pick]) == 0;
+                    actions[player] = legal[pick];
+                    path[length] = playerKeys[pick];
+                    pathSides[length++] = player;
+                }
+                engine.executeTurn(actions[0], actions[1]);
+                engine.replaceFainted();
+            }
+            int winner = engine.resume().getWinner();
+            nodes.addAndGet(scratch.getTurn() - root.getTurn() + 1);
+            double value = evaluate(scratch, side, winner);
+            for (int i = 0; i < length; i++) {
+                table.update(path[i], pathSides[i] == side ? value : 1.0 - value);
+            }
+        }
+    }
+
+    private static long[] actionKeys(long state, int side, int[] actions) {
+        long base = mix(state + side);
+        long[] keys = new long[actions.length];
+        for (int i = 0; i < actions.length; i++) {
+            keys[i] = mix(base + actions[i] + 1);
+        }
+        return keys;
+    }
+
+    private int select(long[] keys) {
+        long[] visits = new long[keys.length];
+        long total = 0;
+        for (int i = 0; i < keys.length; i++) {
+            visits[i] = table.getVisits(keys[i]);
+            if (visits[i] == 0) {
+                return i;
+            }
+            total += visits[i];
+        }
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        double logTotal = Math.log(total);
+        for (int i = 0; i < keys.length; i++) {
+            double score = table.getMean(keys[i]) + EXPLORATION * Math.sqrt(logTotal / visits[i]);
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static double evaluate(BattleState state, int side, int winner) {
+        if (winner == side) {
+            return 1.0;
+        } else if (winner == 1 - side) {
+            return 0.0;
+        }
+        double own = remainingHealth(state, side);
+        double rival = remainingHealth(state, 1 - side);
+        return (own + rival) == 0 ? 0.5 : own / (own + rival);
+    }
+
+    private static double remainingHealth(BattleState state, int side) {
+        double health = 0;
+        for (int slot = 0; slot < state.getTeamSize(side); slot++) {
+            PKMN pokemon = state.getPokemon(side, slot);
+            health += (double) state.getHP(side, slot) / pokemon.getHP();
+        }
+        return health;
+    }
+
+    private synchronized SplittableRandom split() {
+        return random.split();
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,66 @@
+package engine;
+
+import java.io.PrintStream;
+
+import model.Move;
+import model.PKMN;
+
+public class TextBattleListener implements BattleListener {
+
+    private final PrintStream out;
+    private final StringBuilder buffer = new StringBuilder(256);
+
+    public TextBattleListener(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void moveUsed(int side, PKMN attacker, Move move) {
+        buffer.append('\n').append(attacker.getName()).append(" ha usado ").append(move.getName()).append(".\n");
+    }
+
+    @Override
+    public void missed(int side, PKMN attacker) {
+        buffer.append(attacker.getName()).append(" falló el ataque.\n");
+    }
+
+    @Override
+    public void damaged(int side, PKMN defender, int damage, boolean critical) {
+        if (critical) {
+            buffer.append("!Golpe crítico¡\n");
+        }
+    }
+
+    @Override
+    public void noEffect(int side, PKMN defender) {
+        buffer.append("No afecta a ").append(defender.getName()).append('\n');
+    }
+
+    @Override
+    public void fainted(int side, PKMN pokemon) {
+        buffer.append('\n').append(pokemon.getName()).append(" ha sido debilitado.\n");
+    }
+
+    @Override
+    public void switched(int side, PKMN pokemon, int teamIndex) {
+        buffer.append('\n').append(pokemon.getName()).append(" entra en combate.\n");
+    }
+
+    @Override
+    public void turnEnded(int turn) {
+        flush();
+    }
+
+    @Override
+    public void battleEnded(BattleResult result) {
+        flush();
+    }
+
+    public void flush() {
+        if (buffer.length() > 0) {
+            out.print(buffer);
+            out.flush();
+            buffer.setLength(0);
+        }
+    }
+}
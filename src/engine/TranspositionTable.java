@@ -0,0 +1,70 @@
+package engine;
+
+public class TranspositionTable {
+
+    private static final int STRIPES = 64;
+
+    private final long[] keys;
+    private final long[] visits;
+    private final double[] totals;
+    private final Object[] locks = new Object[STRIPES];
+    private final int mask;
+
+    public TranspositionTable(int sizeBits) {
+        int size = 1 << sizeBits;
+        keys = new long[size];
+        visits = new long[size];
+        totals = new double[size];
+        mask = size - 1;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public long getVisits(long key) {
+        int index = indexOf(key);
+        synchronized (lockFor(index)) {
+            return keys[index] == key ? visits[index] : 0;
+        }
+    }
+
+    public double getMean(long key) {
+        int index = indexOf(key);
+        synchronized (lockFor(index)) {
+            return (keys[index] == key && visits[index] > 0) ? totals[index] / visits[index] : 0.0;
+        }
+    }
+
+    public void update(long key, double value) {
+        int index = indexOf(key);
+        synchronized (lockFor(index)) {
+            if (keys[index] != key) {
+                keys[index] = key;
+                visits[index] = 0;
+                totals[index] = 0.0;
+            }
+            visits[index]++;
+            totals[index] += value;
+        }
+    }
+
+    public void clear() {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            synchronized (locks[stripe]) {
+                for (int index = stripe; index < keys.length; index += STRIPES) {
+                    keys[index] = 0L;
+                    visits[index] = 0L;
+                    totals[index] = 0.0;
+                }
+            }
+        }
+    }
+
+    private Object lockFor(int index) {
+        return locks[index & (STRIPES - 1)];
+    }
+
+    private int indexOf(long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+}
@@ -5,4 +5,8 @@ public class ATK extends Move {
     public ATK(String name, Type type, int priority, int pp, int power, int accuracy, String effect, String category) {
         super(name, type, priority, pp, power, accuracy, effect, category);
     }
+
+    public ATK(int id, String name, Type type, MoveCategory category, int priority, int pp, int power, int accuracy) {
+        super(id, name, type, category, priority, pp, power, accuracy);
+    }
 }
@@ -1,34 +1,43 @@
 package model;
 
 import java.util.InputMismatchException;
-import java.util.Objects;
 import java.util.Random;
 import java.util.Scanner;
 
+import engine.BattleAgent;
+import engine.BattleEngine;
+import engine.BattleResult;
+import engine.ConsoleAgent;
+import engine.Difficulty;
+import engine.RandomAgent;
+import engine.SearchAgent;
+import engine.TextBattleListener;
+import sim.TeamSampler;
+
 public class Battle {
 
     public static Random random = new Random();
     public static Scanner scan = new Scanner(System.in);
 
-    public static final Type acero = new Type("Acero");
-    public static final Type agua = new Type("Agua");
-    public static final Type bicho = new Type("Bicho");
-    public static final Type dragon = new Type("Dragón");
-    public static final Type electrico = new Type("Eléctrico");
-    public static final Type fantasma = new Type("Fantasma");
-    public static final Type fuego = new Type("Fuego");
-    public static final Type hada = new Type("Hada");
-    public static final Type hielo = new Type("Hielo");
-    public static final Type lucha = new Type("Lucha");
-    public static final Type normal = new Type("Normal");
-    public static final Type planta = new Type("Planta");
-    public static final Type psiquico = new Type("Psíquico");
-    public static final Type roca = new Type("Roca");
-    public static final Type siniestro = new Type("Siniestro");
-    public static final Type tierra = new Type("Tierra");
-    public static final Type veneno = new Type("Veneno");
-    public static final Type volador = new Type("Volador");
-    public static final Type nulo = new Type("Nulo");
+    public static final Type acero = Type.of("Acero");
+    public static final Type agua = Type.of("Agua");
+    public static final Type bicho = Type.of("Bicho");
+    public static final Type dragon = Type.of("Dragón");
+    public static final Type electrico = Type.of("Eléctrico");
+    public static final Type fantasma = Type.of("Fantasma");
+    public static final Type fuego = Type.of("Fuego");
+    public static final Type hada = Type.of("Hada");
+    public static final Type hielo = Type.of("Hielo");
+    public static final Type lucha = Type.of("Lucha");
+    public static final Type normal = Type.of("Normal");
+    public static final Type planta = Type.of("Planta");
+    public static final Type psiquico = Type.of("Psíquico");
+    public static final Type roca = Type.of("Roca");
+    public static final Type siniestro = Type.of("Siniestro");
+    public static final Type tierra = Type.of("Tierra");
+    public static final Type veneno = Type.of("Veneno");
+    public static final Type volador = Type.of("Volador");
+    public static final Type nulo = Type.of("Nulo");
 
     static {
         loadEffectiveness();
@@ -172,7 +181,7 @@ public class Battle {
         volador.addEffectiveness("Eléctrico", 0.5);
     }
 
-    public static ATK aBocajarro = new ATK("A Bocajarro", lucha, 0, 5, 120, 100, null, "Físisco");
+    public static ATK aBocajarro = new ATK("A Bocajarro", lucha, 0, 5, 120, 100, null, "Físico");
     public static ATK puñoBala = new ATK("Puño Bala", acero, 1, 30, 40, 100, null, "Físico");
     public static ATK triturar = new ATK("Triturar", siniestro, 0, 15, 80, 100, null, "Físico");
     public static ATK esferaAural = new ATK("Esfera Aural", lucha, 0, 20, 80, 0, null, "Especial");
@@ -469,104 +478,25 @@ public class Battle {
 
     }
 
-    public static int calculateDamage(PKMN attacker, Move move, PKMN defender) {
-        int attack;
-        int defense;
-        if (move.getPower() == 0) {
-            return -1;
-        } else {
-            if (move.getCategory().equals("Especial")) {
-                attack = attacker.getSpecialAttack();
-                defense = defender.getSpecialDefense();
-            } else {
-                attack = attacker.getAttack();
-                defense = defender.getDefense();
-            }
-            int level = attacker.getlevel();
-            int power = move.getPower();
-            double critical = (random.nextInt(24) == 0) ? 1.5 : 1.0;
-            double stab = (attacker.getType1().equals(move.getType()) || attacker.getType2().equals(move.getType())) ? 1.5 : 1.0;
-            double effectiveness = (move.getType().getEffectiveness(defender.getType1())) * (move.getType().getEffectiveness(defender.getType2()));
-            double baseDamage = ((level * 2.0 / 5.0 + 2) * power * ((double) attack / defense)) / 50.0 + 2;
-            double modifier = (85 + random.nextInt(16)) * 0.01;
-            int damage = (int) (baseDamage * stab * effectiveness * modifier * critical);
-            System.out.printf("%n%s ha usado %s.%n", attacker.getName(), move.getName());
-            if (critical > 1.0 && damage > 0) {
-                System.out.println("!Golpe crítico¡");
-            }
-            return damage;
-        }
-    }
-
-    public static boolean doesAttackHit(PKMN attacker, PKMN defender, Move move) {
-        if (move.getAccuracy() == 0) {
-            return true;
-        }
-        double hitChance = 0.01 * move.getAccuracy() * (attacker.getPrecision() / defender.getEvasion());
-        return Math.random() < hitChance;
-    }
-
-    public static void useMove(PKMN attacker, Move move, PKMN defender) {
-        move.reducePp();
-        if (doesAttackHit(attacker, defender, move)) {
-            int damage = calculateDamage(attacker, move, defender);
-            if (damage > 0) {
-                defender.takeDamage(damage);
-            } else if (damage == 0) {
-                System.out.println("No afecta a " + defender.getName());
-            }
-        } else {
-            System.out.printf("%n%s ha usado %s.%n", attacker.getName(), move.getName());
-            System.out.println(attacker.getName() + " falló el ataque.");
-        }
-    }
-
-    public static PKMN firstAttacker(Move move1, Move move2, PKMN pokemon1, PKMN pokemon2) {
-        if (move1.getPriority() > move2.getPriority()) {
-            return pokemon1;
-        } else if (move1.getPriority() < move2.getPriority()) {
-            return pokemon2;
-        } else {
-            if (pokemon1.getSpeed() > pokemon2.getSpeed()) {
-                return pokemon1;
-            } else if (pokemon1.getSpeed() < pokemon2.getSpeed()) {
-                return pokemon2;
-            } else {
-                return (random.nextBoolean()) ? pokemon1 : pokemon2;
-            }
-        }
-    }
-
     public static boolean isEntryInDex(Integer entry, Dex pokedex) {
-        for (Integer entryDex : pokedex.getEntrys()) {
-            if (Objects.equals(entry, entryDex)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    public static void showBattleInfo(PKMN rivalPokemon, PKMN ownPokemon) {
-        System.out.println("\nPokemon del rival: " + rivalPokemon.getName());
-        System.out.printf("HP: %s/%s%n", rivalPokemon.getCurrentHP(), rivalPokemon.getHP());
-        System.out.println("\nTu pokemon: " + ownPokemon.getName());
-        System.out.printf("HP: %s/%s%n", ownPokemon.getCurrentHP(), ownPokemon.getHP());
+        return entry != null && pokedex.contains(entry);
     }
 
     public static Team selectTeam(Dex pokedex, int teamSize) {
-        Team team = new Team(teamSize);
+        PKMN[] members = new PKMN[teamSize];
+        int count = 0;
         Integer dexN;
         pokedex.showDex();
         System.out.println("\nIngresa el Nº Pokédex del pokemon para agregarlo al equipo");
 
-        while (!team.isFull()) {
+        while (count < teamSize) {
             try {
-                System.out.printf("%nNº Pokédex del %s° pokemon: ", team.getCurrentSize() + 1);
+                System.out.printf("%nNº Pokédex del %s° pokemon: ", count + 1);
                 dexN = scan.nextInt();
                 if (!isEntryInDex(dexN, pokedex)) {
                     System.err.println("Número Pokédex inválido.");
                 } else {
-                    team.addToTeam(pokedex.getPKMN(dexN).clone());
+                    members[count++] = pokedex.getPKMN(dexN).clone();
                     System.out.printf("%s fue añadido a tu equipo.%n", pokedex.getPKMN(dexN).getName());
                 }
             } catch (InputMismatchException e) {
@@ -574,158 +504,43 @@ public class Battle {
                 scan.nextLine();
             }
         }
-        return team;
+        return new Team(members);
     }
 
     public static Team setRandomTeam(Dex pokedex, int teamSize) {
-        Team team = new Team(teamSize);
-        int dexN;
-        Integer[] entrys = dex.getEntrys();
-        do {
-            dexN = entrys[random.nextInt(entrys.length)];
-            team.addToTeam(pokedex.getPKMN(dexN).clone());
-        } while (!team.isFull());
-        return team;
-    }
-
-    public static Move selectMove(PKMN pokemon) {
-        int moveN = -1;
-        Move move;
-        pokemon.showMoves();
-        System.out.println("\nIngresa el Nº para seleccionar un movimiento:");
-        do {
-            try {
-                moveN = scan.nextInt() - 1;
-                if (moveN < 0 || moveN >= pokemon.getMoves().length) {
-                    System.out.println("Entrada inválida");
-                }
-            } catch (InputMismatchException e) {
-                System.err.println("Entrada inválida");
-                scan.nextLine();
-            }
-        } while (moveN < 0 || moveN >= pokemon.getMoves().length);
-        move = pokemon.getMoves()[moveN];
-        return move;
-    }
-
-    public static Move selectRandomMove(PKMN pokemon) {
-        int moveN = random.nextInt(4);
-        Move move;
-        move = pokemon.getMoves()[moveN];
-        return move;
-    }
-
-    public static PKMN changePokemon(Team team) {
-        int index = -1;
-        System.out.println("\nSelecciona un pokemon para continuar: ");
-        team.showTeam();
-        do {
-            try {
-                index = scan.nextInt() - 1;
-                if (index < 0 || index >= team.getCurrentSize()) {
-                    System.out.println("Entrada inválida. Intentalo de nuevo.");
-
-                }
-            } catch (InputMismatchException e) {
-                System.out.println("Entrada inválida. Intentalo de nuevo.");
-                scan.nextLine();
-            }
-        } while (index < 0 || index >= team.getCurrentSize());
-        return team.getPokemon(index);
-    }
-
-    public static PKMN changeRandomPokemon(Team team) {
-        int index = random.nextInt(team.getCurrentSize());
-        return team.getPokemon(index);
-    }
-
-    public static boolean isPokemonFainted(PKMN pokemon) {
-        return pokemon.getCurrentHP() <= 0;
-    }
-
-    public static boolean isTeamDefeated(Team team) {
-        return team.isEmpty();
-    }
-
-    public static PKMN executeTurn(PKMN playerCurrent, PKMN cpuCurrent, Team playerTeam) {
-        int choice = 1;
-
-        if (playerTeam.getCurrentSize() > 1) {
-            while (choice < 1 || choice > 2) {
-                try {
-                    System.out.println("\nElige una opción:");
-                    System.out.println("1. Atacar");
-                    System.out.println("2. Cambiar Pokémon");
-                    choice = scan.nextInt();
-                    if (choice < 1 || choice > 2) {
-                        System.out.println("Opción inválida.");
-                    }
-                } catch (InputMismatchException e) {
-                    System.out.println("Entrada no válida. Ingresa un número.");
-                    scan.nextLine();
-                }
-            }
+        TeamSampler sampler = new TeamSampler(pokedex, teamSize);
+        int[] dexNumbers = sampler.decode(sampler.sample(random));
+        PKMN[] members = new PKMN[teamSize];
+        for (int i = 0; i < teamSize; i++) {
+            members[i] = pokedex.getPKMN(dexNumbers[i]).clone();
         }
-        if (choice == 1) {
-
-            Move playerMove = selectMove(playerCurrent);
-            Move cpuMove = selectRandomMove(cpuCurrent);
-
-            PKMN firstAttacker = firstAttacker(playerMove, cpuMove, playerCurrent, cpuCurrent);
-            PKMN secondAttacker = (firstAttacker == playerCurrent) ? cpuCurrent : playerCurrent;
-            Move firstMove = (firstAttacker == playerCurrent) ? playerMove : cpuMove;
-            Move secondMove = (firstAttacker == playerCurrent) ? cpuMove : playerMove;
-
-            useMove(firstAttacker, firstMove, secondAttacker);
-            if (isPokemonFainted(secondAttacker)) {
-                System.out.printf("%n%s ha sido debilitado.%n", secondAttacker.getName());
-            } else {
-                useMove(secondAttacker, secondMove, firstAttacker);
-                if (isPokemonFainted(firstAttacker)) {
-                    System.out.printf("%n%s ha sido debilitado.%n", firstAttacker.getName());
-                }
-            }
-        } else {
-            playerCurrent = changePokemon(playerTeam);
-            System.out.println("\nHas elegido a " + playerCurrent.getName());
-            useMove(cpuCurrent, selectRandomMove(cpuCurrent), playerCurrent);
-            if (isPokemonFainted(playerCurrent)) {
-                System.out.printf("%n%s ha sido debilitado.%n", playerCurrent.getName());
-            }
-        }
-        return playerCurrent;
-    }
-
-    public static boolean verifyFainted(PKMN pokemon, Team team) {
-        if (isPokemonFainted(pokemon)) {
-            team.removePokemon(pokemon);
-            if (!team.isEmpty()) {
-                return true;
-            }
-        }
-        return false;
+        return new Team(members);
     }
 
     public static void battle(Team playerTeam, Team cpuTeam) {
-        PKMN playerCurrent = playerTeam.getPokemon(0);
-        PKMN cpuCurrent = cpuTeam.getPokemon(random.nextInt(playerTeam.getCurrentSize()));
+        battle(playerTeam, cpuTeam, new RandomAgent(random));
+    }
 
+    public static void battle(Team playerTeam, Team cpuTeam, BattleAgent cpuAgent) {
         System.out.println("\n--Equipo rival--\n");
         cpuTeam.showTeam();
         System.out.println("\n--Tu equipo--\n");
         playerTeam.showTeam();
 
-        while (!isTeamDefeated(playerTeam) && !isTeamDefeated(cpuTeam)) {
-            showBattleInfo(cpuCurrent, playerCurrent);
+        BattleEngine engine = new BattleEngine(playerTeam, new ConsoleAgent(scan), cpuTeam, cpuAgent,
+                random, new TextBattleListener(System.out), BattleEngine.DEFAULT_MAX_TURNS);
+        BattleResult result = engine.run();
 
-            playerCurrent = executeTurn(playerCurrent, cpuCurrent, playerTeam);
-            playerCurrent = (verifyFainted(playerCurrent, playerTeam)) ? changePokemon(playerTeam) : playerCurrent;
-            cpuCurrent = (verifyFainted(cpuCurrent, cpuTeam)) ? changeRandomPokemon(cpuTeam) : cpuCurrent;
-        }
-        if (isTeamDefeated(playerTeam)) {
+        if (result.getWinner() == 1) {
             System.out.println("\n¡El entrenador rival ha ganado la batalla!");
-        } else {
+        } else if (result.getWinner() == 0) {
             System.out.println("\n¡Has ganado la batalla!");
+        } else {
+            System.out.println("\nLa batalla ha terminado en empate.");
+        }
+        if (cpuAgent instanceof SearchAgent searchAgent) {
+            System.out.printf("%nLa CPU evaluó %d nodos (%.0f nodos/s).%n", searchAgent.getTotalNodes(),
+                    searchAgent.getNodesPerSecond());
         }
     }
 
@@ -749,43 +564,36 @@ public class Battle {
         return teamSize;
     }
 
-    public static int selectDifficulty(int teamSize) {
+    public static Difficulty selectDifficulty() {
+        Difficulty[] levels = Difficulty.values();
         int choice = 0;
 
         System.out.println("Selecciona el nivel de dificultad:");
-        System.out.println("1. Fácil");
-        System.out.println("2. Medio");
-        System.out.println("3. Difícil");
+        for (int i = 0; i < levels.length; i++) {
+            System.out.println((i + 1) + ". " + levels[i].getName());
+        }
 
-        while (choice < 1 || choice > 3) {
+        while (choice < 1 || choice > levels.length) {
             try {
                 System.out.print("Ingresa el número correspondiente a la dificultad: ");
                 choice = scan.nextInt();
 
-                switch (choice) {
-                    case 1 ->
-                        teamSize--;
-                    case 3 ->
-                        teamSize++;
-                    default ->
-                        System.err.println("Entrada inválida. Por favor, ingresa 1, 2 o 3.");
+                if (choice < 1 || choice > levels.length) {
+                    System.err.println("Entrada inválida. Por favor, ingresa 1, 2 o 3.");
                 }
             } catch (InputMismatchException e) {
                 System.err.println("Entrada inválida. Por favor, ingresa un número (1, 2 o 3).");
                 scan.nextLine();
             }
         }
-        return teamSize;
+        return levels[choice - 1];
     }
 
     public void start() {
         int teamSize = selectTeamSize();
-        int rivalTeamSize = teamSize;
-        if (teamSize > 1) {
-            rivalTeamSize = selectDifficulty(teamSize);
-        }
+        Difficulty difficulty = selectDifficulty();
         Team playerTeam = selectTeam(dex, teamSize);
-        Team cpuTeam = setRandomTeam(dex, rivalTeamSize);
-        battle(playerTeam, cpuTeam);
+        Team cpuTeam = setRandomTeam(dex, teamSize);
+        battle(playerTeam, cpuTeam, new SearchAgent(difficulty, random.nextLong()));
     }
 }
@@ -1,47 +1,144 @@
 package model;
 
-import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
+import java.util.Arrays;
 
 public class Dex {
 
-    private final TreeMap<Integer, PKMN> pokedex;
+    private PKMN[] pokedex;
+    private int size;
+    private final DexSnapshot snapshot;
+    private volatile DexIndex index;
 
     public Dex() {
-        pokedex = new TreeMap<>();
+        pokedex = new PKMN[16];
+        snapshot = null;
+    }
+
+    public Dex(DexSnapshot snapshot) {
+        pokedex = new PKMN[0];
+        this.snapshot = snapshot;
     }
 
     public void addPKMN(int DexNumber, PKMN pokemon) {
-        pokedex.put(DexNumber, pokemon);
+        checkWritable();
+        if (DexNumber < 0 || pokemon == null) {
+            throw new IllegalArgumentException("Entrada de Pokédex inválida: " + DexNumber);
+        }
+        if (DexNumber >= pokedex.length) {
+            pokedex = Arrays.copyOf(pokedex, Math.max(DexNumber + 1, pokedex.length * 2));
+        }
+        if (pokedex[DexNumber] == null) {
+            size++;
+        }
+        pokedex[DexNumber] = pokemon;
+        index = null;
     }
 
     public PKMN getPKMN(int DexNumber) {
-        return pokedex.get(DexNumber);
+        if (snapshot != null) {
+            return snapshot.getPKMN(DexNumber);
+        }
+        return contains(DexNumber) ? pokedex[DexNumber] : null;
+    }
+
+    public Species getSpecies(int DexNumber) {
+        if (snapshot != null) {
+            return snapshot.getSpecies(DexNumber);
+        }
+        return contains(DexNumber) ? pokedex[DexNumber].getSpecies() : null;
+    }
+
+    public boolean contains(int DexNumber) {
+        if (snapshot != null) {
+            return snapshot.contains(DexNumber);
+        }
+        return DexNumber >= 0 && DexNumber < pokedex.length && pokedex[DexNumber] != null;
+    }
+
+    public PKMN findByName(String name) {
+        int dexNumber = getIndex().findByName(name);
+        return dexNumber == DexIndex.NO_ENTRY ? null : getPKMN(dexNumber);
     }
 
     public PKMN deletePKMN(int DexNumber) {
-        return pokedex.remove(DexNumber);
+        checkWritable();
+        if (!contains(DexNumber)) {
+            return null;
+        }
+        PKMN removed = pokedex[DexNumber];
+        pokedex[DexNumber] = null;
+        size--;
+        index = null;
+        return removed;
     }
 
     public Integer[] getEntrys() {
-        Set<Integer> keySet = pokedex.keySet();
-        Integer[] entrys = keySet.toArray(Integer[]::new);
+        int[] numbers = getDexNumbers();
+        Integer[] entrys = new Integer[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            entrys[i] = numbers[i];
+        }
         return entrys;
-    } 
+    }
+
+    public int[] getDexNumbers() {
+        if (snapshot != null) {
+            int[] numbers = new int[snapshot.getSpeciesCount()];
+            for (int i = 0; i < numbers.length; i++) {
+                numbers[i] = snapshot.getDexNumber(i);
+            }
+            return numbers;
+        }
+        int[] numbers = new int[size];
+        int count = 0;
+        for (int i = 0; i < pokedex.length; i++) {
+            if (pokedex[i] != null) {
+                numbers[count++] = i;
+            }
+        }
+        return numbers;
+    }
+
+    public DexIndex getIndex() {
+        DexIndex current = index;
+        if (current == null) {
+            int[] numbers = getDexNumbers();
+            Species[] species = new Species[numbers.length];
+            for (int i = 0; i < numbers.length; i++) {
+                species[i] = getSpecies(numbers[i]);
+            }
+            current = new DexIndex(numbers, species);
+            index = current;
+        }
+        return current;
+    }
 
     public void showDex() {
         System.out.println("\n--Pokedex--\n");
-        for (Map.Entry<Integer, PKMN> entrada : pokedex.entrySet()) {
-            System.out.println("Nº Pokédex: " + entrada.getKey() + " - " + entrada.getValue().getName());
+        if (snapshot != null) {
+            for (int i = 0; i < snapshot.getSpeciesCount(); i++) {
+                System.out.println("Nº Pokédex: " + snapshot.getDexNumber(i) + " - " + snapshot.getName(i));
+            }
+            return;
+        }
+        for (int i = 0; i < pokedex.length; i++) {
+            if (pokedex[i] != null) {
+                System.out.println("Nº Pokédex: " + i + " - " + pokedex[i].getName());
+            }
         }
     }
 
     public int getSize() {
-        return pokedex.size();
+        return snapshot != null ? snapshot.getSpeciesCount() : size;
     }
 
     public boolean isEmpty() {
-        return pokedex.isEmpty();
+        return getSize() == 0;
+    }
+
+    private void checkWritable() {
+        if (snapshot != null) {
+            throw new UnsupportedOperationException("La Pokédex compilada es de solo lectura");
+        }
     }
 }
@@ -0,0 +1,244 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+public class DexIndex {
+
+    public static final int STAT_TOTAL = SpreadGenerator.STATS;
+    public static final int NO_ENTRY = -1;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final int[] dexNumbers;
+    private final String[] names;
+    private final long[][] typeMasks;
+    private final int[][] statValues;
+    private final int[][] statRecords;
+    private final int[] nameOrder;
+    private char[] labels;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int[] rangeStart;
+    private int[] rangeEnd;
+    private int nodes;
+
+    DexIndex(int[] dexNumbers, Species[] species) {
+        int count = dexNumbers.length;
+        this.dexNumbers = dexNumbers;
+        this.names = new String[count];
+        this.typeMasks = new long[Type.MAX_TYPES][(count + 63) >>> 6];
+        this.statValues = new int[STAT_TOTAL + 1][];
+        this.statRecords = new int[STAT_TOTAL + 1][];
+        for (int record = 0; record < count; record++) {
+            names[record] = normalize(species[record].getName());
+            mark(species[record].getType1(), record);
+            mark(species[record].getType2(), record);
+        }
+        for (int stat = 0; stat <= STAT_TOTAL; stat++) {
+            buildStatColumn(stat, species);
+        }
+        this.nameOrder = sortedByName();
+        buildTrie();
+    }
+
+    public int size() {
+        return dexNumbers.length;
+    }
+
+    public int[] byType(Type type) {
+        return toDexNumbers(typeMask(type));
+    }
+
+    public int[] byTypes(Type type1, Type type2) {
+        long[] mask = typeMask(type1);
+        long[] other = typeMask(type2);
+        for (int i = 0; i < mask.length; i++) {
+            mask[i] &= other[i];
+        }
+        return toDexNumbers(mask);
+    }
+
+    public long[] typeMask(Type type) {
+        return typeMasks[type.getId()].clone();
+    }
+
+    public int[] byNamePrefix(String prefix) {
+        int node = findNode(normalize(prefix));
+        if (node == NO_ENTRY) {
+            return EMPTY;
+        }
+        int[] result = new int[rangeEnd[node] - rangeStart[node]];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dexNumbers[nameOrder[rangeStart[node] + i]];
+        }
+        return result;
+    }
+
+    public int findByName(String name) {
+        String normalized = normalize(name);
+        int node = findNode(normalized);
+        if (node == NO_ENTRY) {
+            return NO_ENTRY;
+        }
+        int record = nameOrder[rangeStart[node]];
+        return names[record].equals(normalized) ? dexNumbers[record] : NO_ENTRY;
+    }
+
+    public int[] byStatRange(int stat, int min, int max) {
+        int[] values = statValues[stat];
+        int from = lowerBound(values, min);
+        int to = lowerBound(values, max == Integer.MAX_VALUE ? max : max + 1);
+        if (from >= to) {
+            return EMPTY;
+        }
+        int[] result = new int[to - from];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dexNumbers[statRecords[stat][from + i]];
+        }
+        return result;
+    }
+
+    public int[] byStatAbove(int stat, int threshold) {
+        return byStatRange(stat, threshold + 1, Integer.MAX_VALUE);
+    }
+
+    public int[] byStatBelow(int stat, int threshold) {
+        return byStatRange(stat, Integer.MIN_VALUE, threshold - 1);
+    }
+
+    public int[] toDexNumbers(long[] mask) {
+        int count = 0;
+        for (long word : mask) {
+            count += Long.bitCount(word);
+        }
+        int[] result = new int[count];
+        int index = 0;
+        for (int i = 0; i < mask.length; i++) {
+            long word = mask[i];
+            while (word != 0) {
+                result[index++] = dexNumbers[(i << 6) + Long.numberOfTrailingZeros(word)];
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    private void mark(Type type, int record) {
+        if (type != null) {
+            typeMasks[type.getId()][record >>> 6] |= 1L << record;
+        }
+    }
+
+    private void buildStatColumn(int stat, Species[] species) {
+        int count = species.length;
+        long[] packed = new long[count];
+        for (int record = 0; record < count; record++) {
+            int value = stat == STAT_TOTAL ? species[record].getBaseStatTotal() : species[record].getBaseStat(stat);
+            packed[record] = ((long) value << 32) | record;
+        }
+        Arrays.sort(packed);
+        int[] values = new int[count];
+        int[] records = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = (int) (packed[i] >>> 32);
+            records[i] = (int) packed[i];
+        }
+        statValues[stat] = values;
+        statRecords[stat] = records;
+    }
+
+    private int[] sortedByName() {
+        Integer[] order = new Integer[names.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> names[a].compareTo(names[b]));
+        int[] result = new int[order.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = order[i];
+        }
+        return result;
+    }
+
+    private void buildTrie() {
+        int capacity = 64;
+        labels = new char[capacity];
+        firstChild = new int[capacity];
+        nextSibling = new int[capacity];
+        rangeStart = new int[capacity];
+        rangeEnd = new int[capacity];
+        nodes = 1;
+        firstChild[0] = NO_ENTRY;
+        nextSibling[0] = NO_ENTRY;
+        rangeEnd[0] = nameOrder.length;
+        for (int position = 0; position < nameOrder.length; position++) {
+            String name = names[nameOrder[position]];
+            int node = 0;
+            for (int i = 0; i < name.length(); i++) {
+                node = child(node, name.charAt(i), position);
+                rangeEnd[node] = position + 1;
+            }
+        }
+    }
+
+    private int child(int parent, char label, int position) {
+        int previous = NO_ENTRY;
+        for (int node = firstChild[parent]; node != NO_ENTRY; node = nextSibling[node]) {
+            if (labels[node] == label) {
+                return node;
+            }
+            previous = node;
+        }
+        if (nodes == labels.length) {
+            int capacity = nodes * 2;
+            labels = Arrays.copyOf(labels, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            rangeStart = Arrays.copyOf(rangeStart, capacity);
+            rangeEnd = Arrays.copyOf(rangeEnd, capacity);
+        }
+        int node = nodes++;
+        labels[node] = label;
+        firstChild[node] = NO_ENTRY;
+        nextSibling[node] = NO_ENTRY;
+        rangeStart[node] = position;
+        if (previous == NO_ENTRY) {
+            firstChild[parent] = node;
+        } else {
+            nextSibling[previous] = node;
+        }
+        return node;
+    }
+
+    private int findNode(String prefix) {
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node != NO_ENTRY; i++) {
+            char label = prefix.charAt(i);
+            int next = firstChild[node];
+            while (next != NO_ENTRY && labels[next] != label) {
+                next = nextSibling[next];
+            }
+            node = next;
+        }
+        return node;
+    }
+
+    private static int lowerBound(int[] values, int key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
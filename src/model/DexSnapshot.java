@@ -0,0 +1,183 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class DexSnapshot {
+
+    public static final int MAGIC = 0x504B4458;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 48;
+    public static final int TYPE_RECORD_SIZE = 4;
+    public static final int MOVE_RECORD_SIZE = 12;
+    public static final int SPECIES_RECORD_SIZE = 32;
+    public static final int NO_ENTRY = -1;
+    public static final String NO_TYPE = "Nulo";
+
+    private final ByteBuffer buffer;
+    private final Type[] types;
+    private final Species[] species;
+    private final AtomicReferenceArray<PKMN> templates;
+    private final Move[] moves;
+    private final int moveCount;
+    private final int speciesCount;
+    private final int maxDexNumber;
+    private final int movesOffset;
+    private final int speciesOffset;
+    private final int indexOffset;
+    private final int stringsOffset;
+
+    private DexSnapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Archivo de Pokédex compilada inválido");
+        }
+        int typeCount = buffer.getInt(8);
+        this.moveCount = buffer.getInt(12);
+        this.speciesCount = buffer.getInt(16);
+        this.maxDexNumber = buffer.getInt(20);
+        int typesOffset = buffer.getInt(24);
+        int chartOffset = buffer.getInt(28);
+        this.movesOffset = buffer.getInt(32);
+        this.speciesOffset = buffer.getInt(36);
+        this.indexOffset = buffer.getInt(40);
+        this.stringsOffset = buffer.getInt(44);
+
+        species = new Species[speciesCount];
+        templates = new AtomicReferenceArray<>(speciesCount);
+        moves = new Move[moveCount];
+        types = new Type[typeCount];
+        for (int i = 0; i < typeCount; i++) {
+            types[i] = Type.of(readString(buffer.getInt(typesOffset + i * TYPE_RECORD_SIZE)));
+        }
+        for (int attack = 0; attack < typeCount; attack++) {
+            for (int defense = 0; defense < typeCount; defense++) {
+                int quarters = buffer.get(chartOffset + attack * typeCount + defense);
+                if (quarters != 4) {
+                    types[attack].addEffectiveness(types[defense], quarters / 4.0);
+                }
+            }
+        }
+    }
+
+    public static DexSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new DexSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int getSpeciesCount() {
+        return speciesCount;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public int getMaxDexNumber() {
+        return maxDexNumber;
+    }
+
+    public boolean contains(int dexNumber) {
+        return recordOf(dexNumber) != NO_ENTRY;
+    }
+
+    public int getDexNumber(int record) {
+        return buffer.getInt(speciesOffset + record * SPECIES_RECORD_SIZE);
+    }
+
+    public String getName(int record) {
+        return readString(buffer.getInt(speciesOffset + record * SPECIES_RECORD_SIZE + 4));
+    }
+
+    public int findDexNumber(String name) {
+        for (int record = 0; record < speciesCount; record++) {
+            if (getName(record).equalsIgnoreCase(name)) {
+                return getDexNumber(record);
+            }
+        }
+        return NO_ENTRY;
+    }
+
+    public PKMN getPKMN(int dexNumber) {
+        int record = recordOf(dexNumber);
+        if (record == NO_ENTRY) {
+            return null;
+        }
+        PKMN template = templates.get(record);
+        if (template == null) {
+            PKMN created = new PKMN(getSpecies(dexNumber));
+            template = templates.compareAndExchange(record, null, created);
+            if (template == null) {
+                template = created;
+            }
+        }
+        return template;
+    }
+
+    public Species getSpecies(int dexNumber) {
+        int record = recordOf(dexNumber);
+        if (record == NO_ENTRY) {
+            return null;
+        }
+        Species entry = species[record];
+        if (entry == null) {
+            entry = readSpecies(record);
+            species[record] = entry;
+        }
+        return entry;
+    }
+
+    public Move getMove(int move) {
+        Move entry = moves[move];
+        if (entry == null) {
+            int base = movesOffset + move * MOVE_RECORD_SIZE;
+            entry = new ATK(move, readString(buffer.getInt(base)), typeAt(buffer.get(base + 4)),
+                    MoveCategory.byOrdinal(buffer.get(base + 5)), buffer.get(base + 6), buffer.get(base + 7) & 0xFF,
+                    buffer.getShort(base + 8), buffer.getShort(base + 10));
+            moves[move] = entry;
+        }
+        return entry;
+    }
+
+    private Species readSpecies(int record) {
+        int base = speciesOffset + record * SPECIES_RECORD_SIZE;
+        int[] baseStats = new int[SpreadGenerator.STATS];
+        for (int i = 0; i < baseStats.length; i++) {
+            baseStats[i] = buffer.getShort(base + 10 + i * 2);
+        }
+        Move[] moveset = new Move[Species.MOVES];
+        for (int i = 0; i < moveset.length; i++) {
+            int move = buffer.getShort(base + 22 + i * 2);
+            if (move != NO_ENTRY) {
+                moveset[i] = getMove(move);
+            }
+        }
+        return new Species(readString(buffer.getInt(base + 4)), typeAt(buffer.get(base + 8)),
+                typeAt(buffer.get(base + 9)), baseStats, moveset);
+    }
+
+    private int recordOf(int dexNumber) {
+        if (dexNumber < 0 || dexNumber > maxDexNumber) {
+            return NO_ENTRY;
+        }
+        return buffer.getInt(indexOffset + dexNumber * 4);
+    }
+
+    private Type typeAt(int index) {
+        return index == NO_ENTRY ? Type.of(NO_TYPE) : types[index];
+    }
+
+    private String readString(int offset) {
+        int position = stringsOffset + offset;
+        int length = buffer.getShort(position) & 0xFFFF;
+        byte[] bytes = new byte[length];
+        buffer.get(position + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,49 @@
+package model;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+final class EVCounts {
+
+    private static final long[][] WAYS = build();
+
+    private EVCounts() {
+    }
+
+    private static long[][] build() {
+        int stats = SpreadGenerator.STATS;
+        int total = SpreadGenerator.MAX_TOTAL_EVS;
+        long[][] ways = new long[stats + 1][total + 1];
+        Arrays.fill(ways[0], 1L);
+        for (int k = 1; k <= stats; k++) {
+            long window = 0;
+            for (int r = 0; r <= total; r++) {
+                window += ways[k - 1][r];
+                if (r > SpreadGenerator.MAX_STAT_EVS) {
+                    window -= ways[k - 1][r - SpreadGenerator.MAX_STAT_EVS - 1];
+                }
+                ways[k][r] = window;
+            }
+        }
+        return ways;
+    }
+
+    static long count() {
+        return WAYS[SpreadGenerator.STATS][SpreadGenerator.MAX_TOTAL_EVS];
+    }
+
+    static void sample(RandomGenerator random, int[] evs, int offset) {
+        int remaining = SpreadGenerator.MAX_TOTAL_EVS;
+        long pick = random.nextLong(count());
+        for (int i = 0; i < SpreadGenerator.STATS; i++) {
+            long[] rest = WAYS[SpreadGenerator.STATS - i - 1];
+            int ev = 0;
+            while (pick >= rest[remaining - ev]) {
+                pick -= rest[remaining - ev];
+                ev++;
+            }
+            evs[offset + i] = ev;
+            remaining -= ev;
+        }
+    }
+}
@@ -1,17 +1,25 @@
 package model;
 
-public class Move implements Cloneable {
+public class Move {
 
+    public static final int NO_ID = -1;
+
+    private final int id;
     private final String name;
     private final Type type;
     private final int priority;
-    private int pp;
+    private final int pp;
     private final int power;
     private final int accuracy;
-    private final String category;
+    private final MoveCategory category;
     private final String effect;
 
     public Move(String name, Type type, int priority, int pp, int power, int accuracy, String secondaryEffect, String category) {
+        this(NO_ID, name, type, MoveCategory.of(category), priority, pp, power, accuracy);
+    }
+
+    public Move(int id, String name, Type type, MoveCategory category, int priority, int pp, int power, int accuracy) {
+        this.id = id;
         this.name = name;
         this.type = type;
         this.priority = priority;
@@ -22,28 +30,22 @@ public class Move implements Cloneable {
         this.effect = null;
     }
 
-    @Override
-    @SuppressWarnings({"CloneDeclaresCloneNotSupported", "CallToPrintStackTrace"})
-    public Move clone() {
-        try {
-            return (Move) super.clone();
-        } catch (CloneNotSupportedException e) {
-            e.printStackTrace();
-            return null;
-        }
-    }
-
     public Move(String name, Type type, int priority, int pp, String effect) {
+        this.id = NO_ID;
         this.name = name;
         this.type = type;
         this.priority = priority;
         this.pp = pp;
         this.power = 0;
         this.accuracy = 0;
-        this.category = null;
+        this.category = MoveCategory.STATUS;
         this.effect = effect;
     }
 
+    public int getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
@@ -60,8 +62,8 @@ public class Move implements Cloneable {
         return pp;
     }
 
-    public void reducePp() {
-        this.pp--;
+    public int getPp() {
+        return pp;
     }
 
     public int getPower() {
@@ -72,7 +74,7 @@ public class Move implements Cloneable {
         return accuracy;
     }
 
-    public String getCategory() {
+    public MoveCategory getCategory() {
         return category;
     }
 
@@ -87,6 +89,6 @@ public class Move implements Cloneable {
         System.err.println("PP: " + pp);
         System.err.println("Potencia: " + power);
         System.err.println("Precisión: " + accuracy);
-        System.err.println("Categoría: " + category);
+        System.err.println("Categoría: " + category.getName());
     }
 }
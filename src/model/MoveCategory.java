@@ -0,0 +1,48 @@
+package model;
+
+public enum MoveCategory {
+
+    PHYSICAL("Físico", "physical"),
+    SPECIAL("Especial", "special"),
+    STATUS("Estado", "status");
+
+    private static final MoveCategory[] VALUES = values();
+
+    private final String name;
+    private final String damageClass;
+
+    MoveCategory(String name, String damageClass) {
+        this.name = name;
+        this.damageClass = damageClass;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDamageClass() {
+        return damageClass;
+    }
+
+    public static MoveCategory byOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    public static MoveCategory of(String name) {
+        for (MoveCategory category : VALUES) {
+            if (category.name.equals(name)) {
+                return category;
+            }
+        }
+        throw new IllegalArgumentException("Categoría de movimiento desconocida: " + name);
+    }
+
+    public static MoveCategory fromDamageClass(String damageClass) {
+        for (MoveCategory category : VALUES) {
+            if (category.damageClass.equals(damageClass)) {
+                return category;
+            }
+        }
+        throw new IllegalArgumentException("Clase de daño desconocida: " + damageClass);
+    }
+}
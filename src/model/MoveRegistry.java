@@ -0,0 +1,190 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class MoveRegistry {
+
+    public static final int NO_MOVE = -1;
+    public static final int MAX_MOVES = Short.MAX_VALUE;
+
+    private static final int KEYS_PER_BUCKET = 4;
+    private static final int MAX_SEED = 1 << 20;
+
+    private final Move[] moves;
+    private final String[] slugs;
+    private final byte[] types;
+    private final byte[] categories;
+    private final short[] powers;
+    private final byte[] accuracies;
+    private final byte[] pps;
+    private final byte[] priorities;
+    private final int[] seeds;
+    private final short[] table;
+
+    public MoveRegistry(List<String> slugs, List<Move> moves) {
+        if (slugs.size() != moves.size()) {
+            throw new IllegalArgumentException("Cada movimiento necesita su identificador");
+        }
+        if (slugs.size() > MAX_MOVES) {
+            throw new IllegalArgumentException("Demasiados movimientos: " + slugs.size());
+        }
+        int count = slugs.size();
+        this.slugs = slugs.toArray(String[]::new);
+        this.moves = moves.toArray(Move[]::new);
+        this.types = new byte[count];
+        this.categories = new byte[count];
+        this.powers = new short[count];
+        this.accuracies = new byte[count];
+        this.pps = new byte[count];
+        this.priorities = new byte[count];
+        for (int id = 0; id < count; id++) {
+            Move move = this.moves[id];
+            types[id] = (byte) move.getType().getId();
+            categories[id] = (byte) move.getCategory().ordinal();
+            powers[id] = (short) move.getPower();
+            accuracies[id] = (byte) move.getAccuracy();
+            pps[id] = (byte) move.getPp();
+            priorities[id] = (byte) move.getPriority();
+        }
+        this.seeds = new int[Math.max(1, count / KEYS_PER_BUCKET)];
+        this.table = new short[Math.max(1, count + count / 4)];
+        buildPerfectHash();
+    }
+
+    public int size() {
+        return moves.length;
+    }
+
+    public int idOf(String slug) {
+        if (slug == null) {
+            return NO_MOVE;
+        }
+        long fingerprint = fingerprint(slug);
+        int id = table[slot(fingerprint, seeds[bucket(fingerprint)])];
+        return (id != NO_MOVE && slugs[id].equals(slug)) ? id : NO_MOVE;
+    }
+
+    public Move getMove(int id) {
+        return moves[id];
+    }
+
+    public Move getMove(String slug) {
+        int id = idOf(slug);
+        return id == NO_MOVE ? null : moves[id];
+    }
+
+    public String getSlug(int id) {
+        return slugs[id];
+    }
+
+    public int getTypeId(int id) {
+        return types[id];
+    }
+
+    public MoveCategory getCategory(int id) {
+        return MoveCategory.byOrdinal(categories[id]);
+    }
+
+    public int getPower(int id) {
+        return powers[id];
+    }
+
+    public int getAccuracy(int id) {
+        return accuracies[id] & 0xFF;
+    }
+
+    public int getPp(int id) {
+        return pps[id] & 0xFF;
+    }
+
+    public int getPriority(int id) {
+        return priorities[id];
+    }
+
+    private void buildPerfectHash() {
+        long[] fingerprints = new long[slugs.length];
+        int[] bucketSizes = new int[seeds.length];
+        for (int id = 0; id < slugs.length; id++) {
+            fingerprints[id] = fingerprint(slugs[id]);
+            bucketSizes[bucket(fingerprints[id])]++;
+        }
+        int[][] buckets = new int[seeds.length][];
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            buckets[bucket] = new int[bucketSizes[bucket]];
+            bucketSizes[bucket] = 0;
+        }
+        for (int id = 0; id < slugs.length; id++) {
+            int bucket = bucket(fingerprints[id]);
+            buckets[bucket][bucketSizes[bucket]++] = id;
+        }
+        Integer[] order = new Integer[buckets.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> buckets[b].length - buckets[a].length);
+
+        Arrays.fill(table, (short) NO_MOVE);
+        int[] slots = new int[KEYS_PER_BUCKET * 8];
+        for (int bucket : order) {
+            int[] ids = buckets[bucket];
+            if (ids.length == 0) {
+                continue;
+            }
+            if (slots.length < ids.length) {
+                slots = new int[ids.length];
+            }
+            int seed = 0;
+            while (!fits(ids, fingerprints, seed, slots)) {
+                if (++seed >= MAX_SEED) {
+                    throw new IllegalStateException("No se pudo construir el hash perfecto de movimientos");
+                }
+            }
+            seeds[bucket] = seed;
+            for (int i = 0; i < ids.length; i++) {
+                table[slots[i]] = (short) ids[i];
+            }
+        }
+    }
+
+    private boolean fits(int[] ids, long[] fingerprints, int seed, int[] slots) {
+        for (int i = 0; i < ids.length; i++) {
+            int slot = slot(fingerprints[ids[i]], seed);
+            if (table[slot] != NO_MOVE) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (slots[j] == slot) {
+                    if (fingerprints[ids[i]] == fingerprints[ids[j]]) {
+                        throw new IllegalArgumentException("Identificador de movimiento duplicado: " + slugs[ids[i]]);
+                    }
+                    return false;
+                }
+            }
+            slots[i] = slot;
+        }
+        return true;
+    }
+
+    private int bucket(long fingerprint) {
+        return (int) Long.remainderUnsigned(fingerprint, seeds.length);
+    }
+
+    private int slot(long fingerprint, int seed) {
+        return (int) Long.remainderUnsigned(mix(fingerprint + seed * 0x9E3779B97F4A7C15L), table.length);
+    }
+
+    private static long fingerprint(String slug) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < slug.length(); i++) {
+            hash = (hash ^ slug.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -1,142 +1,120 @@
 package model;
 
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
-public class PKMN implements Cloneable {
+public final class PKMN {
+
+    public static final int LEVEL = 50;
 
     static Random random = new Random();
-    private final String name;
-    private final Type type1;
-    private final Type type2;
-    private final int level;
-    private final Move[] moves = new Move[4];
-    private int HP;
-    private int ivHP;
-    private int evHP;
-    private int attack;
-    private int ivAttack;
-    private int evAttack;
-    private int defense;
-    private int ivDefense;
-    private int evDefense;
-    private int specialAttack;
-    private int ivSpecialAttack;
-    private int evSpecialAttack;
-    private int specialDefense;
-    private int ivSpecialDefense;
-    private int evSpecialDefense;
-    private int speed;
-    private int ivSpeed;
-    private int evSpeed;
-    private double precision;
-    private double evasion;
-    private int precisionLevel;
-    private int evasionLevel;
+    private Species species;
+    private int ivs;
+    private long evs;
+    private long stats;
     private int currentHP;
+    private int pp;
+    private byte precisionLevel;
+    private byte evasionLevel;
     private String status;
 
     public PKMN(String name, Type type1, Type type2, int HP, int attack, int defense, int specialAttack, int specialDefense, int speed) {
-        this.name = name;
-        this.type1 = type1;
-        this.type2 = type2;
-        this.level = 50;
-        this.ivHP = setIVs();
-        this.evHP = generateEVs()[0];
-        this.HP = calculateHP(HP, ivHP, evHP, level);
-        this.ivAttack = setIVs();
-        this.evAttack = generateEVs()[1];
-        this.attack = calculateStats(attack, ivAttack, evAttack, level);
-        this.ivDefense = setIVs();
-        this.evDefense = generateEVs()[2];
-        this.defense = calculateStats(defense, ivDefense, evDefense, level);
-        this.ivSpecialAttack = setIVs();
-        this.evSpecialAttack = generateEVs()[3];
-        this.specialAttack = calculateStats(specialAttack, ivSpecialAttack, evSpecialAttack, level);
-        this.ivSpecialDefense = setIVs();
-        this.evSpecialDefense = generateEVs()[4];
-        this.specialDefense = calculateStats(specialDefense, ivSpecialDefense, evSpecialDefense, level);
-        this.ivSpeed = setIVs();
-        this.evSpeed = generateEVs()[5];
-        this.speed = calculateStats(speed, ivSpeed, evSpeed, level);
-        this.currentHP = this.HP;
-        this.precision = 1.0;
-        this.precisionLevel = 0;
-        this.evasion = 1.0;
-        this.evasionLevel = 0;
-        this.status = "Normal";
+        this(new Species(name, type1, type2, new int[]{HP, attack, defense, specialAttack, specialDefense, speed}));
+    }
+
+    public PKMN(Species species) {
+        this(species, random, SpreadGenerator.UNIFORM);
+    }
+
+    public PKMN(Species species, RandomGenerator random, SpreadGenerator generator) {
+        int[] ivs = new int[SpreadGenerator.STATS];
+        int[] evs = new int[SpreadGenerator.STATS];
+        generator.generate(random, ivs, evs, 0);
+        this.species = species;
+        applySpread(ivs, evs, 0);
+    }
+
+    public PKMN(Species species, int[] ivs, int[] evs, int offset) {
+        SpreadGenerator.validate(ivs, evs, offset);
+        this.species = species;
+        applySpread(ivs, evs, offset);
     }
 
     public void assignMove(Move move, int index) {
-        if (index >= 0 && index < moves.length) {
-            moves[index] = move;
+        if (index >= 0 && index < Species.MOVES) {
+            species = species.withMove(move, index);
+            setPp(index, move == null ? 0 : move.getPp());
         }
     }
 
     @Override
-    @SuppressWarnings({"CallToPrintStackTrace", "CloneDeclaresCloneNotSupported"})
     public PKMN clone() {
-        try {
-            PKMN clonedPokemon = (PKMN) super.clone();
-
-            clonedPokemon.ivHP = setIVs();
-            clonedPokemon.evHP = PKMN.generateEVs()[0];
-            clonedPokemon.HP = calculateHP(this.HP, clonedPokemon.ivHP, clonedPokemon.evHP, this.level);
-    
-            clonedPokemon.ivAttack = setIVs();
-            clonedPokemon.evAttack = PKMN.generateEVs()[1];
-            clonedPokemon.attack = calculateStats(this.attack, clonedPokemon.ivAttack, clonedPokemon.evAttack, this.level);
-    
-            clonedPokemon.ivDefense = setIVs();
-            clonedPokemon.evDefense = PKMN.generateEVs()[2];
-            clonedPokemon.defense = calculateStats(this.defense, clonedPokemon.ivDefense, clonedPokemon.evDefense, this.level);
-    
-            clonedPokemon.ivSpecialAttack = setIVs();
-            clonedPokemon.evSpecialAttack = PKMN.generateEVs()[3];
-            clonedPokemon.specialAttack = calculateStats(this.specialAttack, clonedPokemon.ivSpecialAttack, clonedPokemon.evSpecialAttack, this.level);
-    
-            clonedPokemon.ivSpecialDefense = setIVs();
-            clonedPokemon.evSpecialDefense = PKMN.generateEVs()[4];
-            clonedPokemon.specialDefense = calculateStats(this.specialDefense, clonedPokemon.ivSpecialDefense, clonedPokemon.evSpecialDefense, this.level);
-    
-            clonedPokemon.ivSpeed = setIVs();
-            clonedPokemon.evSpeed = PKMN.generateEVs()[5];
-            clonedPokemon.speed = calculateStats(this.speed, clonedPokemon.ivSpeed, clonedPokemon.evSpeed, this.level);
-
-            clonedPokemon.currentHP = clonedPokemon.HP;
-            clonedPokemon.status = this.status;
-    
-            for (int i = 0; i < this.moves.length; i++) {
-                if (this.moves[i] != null) {
-                    clonedPokemon.moves[i] = this.moves[i].clone();
-                }
-            }
-            return clonedPokemon;
-        } catch (CloneNotSupportedException e) {
-            e.printStackTrace();
-            return null;
+        return clone(random);
+    }
+
+    public PKMN clone(RandomGenerator random) {
+        return clone(random, SpreadGenerator.UNIFORM);
+    }
+
+    public PKMN clone(RandomGenerator random, SpreadGenerator generator) {
+        int[] ivs = new int[SpreadGenerator.STATS];
+        int[] evs = new int[SpreadGenerator.STATS];
+        generator.generate(random, ivs, evs, 0);
+        return withSpread(ivs, evs, 0);
+    }
+
+    public PKMN withSpread(int[] ivs, int[] evs, int offset) {
+        return new PKMN(species, ivs, evs, offset);
+    }
+
+    private void applySpread(int[] ivs, int[] evs, int offset) {
+        this.ivs = 0;
+        this.evs = 0;
+        this.stats = 0;
+        for (int i = 0; i < SpreadGenerator.STATS; i++) {
+            int iv = ivs[offset + i];
+            int ev = evs[offset + i];
+            int base = species.getBaseStat(i);
+            int stat = (i == 0) ? calculateHP(base, iv, ev, LEVEL) : calculateStats(base, iv, ev, LEVEL);
+            this.ivs |= iv << (i * 5);
+            this.evs |= (long) ev << (i * 8);
+            this.stats |= (long) stat << (i * 10);
         }
-    }    
+        reset();
+    }
+
+    public void reset() {
+        currentHP = getHP();
+        pp = 0;
+        for (int i = 0; i < Species.MOVES; i++) {
+            Move move = species.moves[i];
+            setPp(i, move == null ? 0 : move.getPp());
+        }
+        precisionLevel = 0;
+        evasionLevel = 0;
+        status = "Normal";
+    }
 
     public void showInfo() {
         System.out.println("\n----INFO----");
-        System.out.println("\nNombre: " + name);
-        System.out.println("Tipo 1: " + type1.getName());
-        if (type2 != null) {
-            System.out.println("Tipo 2: " + type2.getName());
+        System.out.println("\nNombre: " + getName());
+        System.out.println("Tipo 1: " + getType1().getName());
+        if (getType2() != null) {
+            System.out.println("Tipo 2: " + getType2().getName());
         }
-        System.out.println("\nPS: " + HP);
-        System.out.println("Ataque: " + attack);
-        System.out.println("Defensa: " + defense);
-        System.out.println("Ataque Sp.: " + specialAttack);
-        System.out.println("Defensa Sp.: " + specialDefense);
-        System.out.println("Velocidad: " + speed);
+        System.out.println("\nPS: " + getHP());
+        System.out.println("Ataque: " + getAttack());
+        System.out.println("Defensa: " + getDefense());
+        System.out.println("Ataque Sp.: " + getSpecialAttack());
+        System.out.println("Defensa Sp.: " + getSpecialDefense());
+        System.out.println("Velocidad: " + getSpeed());
         showMoves();
     }
 
     public void showMoves() {
         System.out.println("\nMovimientos:");
         int index = 1;
-        for (Move move : moves) {
+        for (Move move : species.moves) {
             if (move != null) {
                 System.out.println(index + ". " + move.getName());
                 index++;
@@ -145,34 +123,25 @@ public class PKMN implements Cloneable {
     }
 
     public void showCurrentHP() {
-        System.out.printf("HP: %s/%s%n", currentHP, HP);
+        System.out.printf("HP: %s/%s%n", currentHP, getHP());
     }
 
     public static int setIVs() {
+        return setIVs(random);
+    }
+
+    public static int setIVs(RandomGenerator random) {
         return random.nextInt(32);
     }
 
     public static int[] generateEVs() {
-        int maxStatEVs = 252;
-        int maxTotalEVs = 510;
-        int[] EVs = new int[6];
-        int sumEVs = 0;
-        for (int i = 0; i < 6; i++) {
-            int max = Math.min(maxStatEVs, maxTotalEVs - sumEVs);
-            EVs[i] = random.nextInt(max + 1);
-            sumEVs += EVs[i];
-        }
-        int[] resultado = new int[6];
-        boolean[] usados = new boolean[6];
-        for (int EV : EVs) {
-            int index;
-            do {
-                index = random.nextInt(6);
-            } while (usados[index]);
-            resultado[index] = EV;
-            usados[index] = true;
-        }
-        return resultado;
+        return generateEVs(random);
+    }
+
+    public static int[] generateEVs(RandomGenerator random) {
+        int[] EVs = new int[SpreadGenerator.STATS];
+        SpreadGenerator.uniformEVs(random, EVs, 0);
+        return EVs;
     }
 
     public static int calculateHP(int HP, int iv, int ev, int level) {
@@ -196,8 +165,8 @@ public class PKMN implements Cloneable {
 
     public void heal(int amount) {
         currentHP += amount;
-        if (currentHP > HP) {
-            currentHP = HP;
+        if (currentHP > getHP()) {
+            currentHP = getHP();
         }
     }
 
@@ -209,24 +178,60 @@ public class PKMN implements Cloneable {
         return status;
     }
 
+    public Species getSpecies() {
+        return species;
+    }
+
     public String getName() {
-        return name;
+        return species.getName();
     }
 
     public Type getType1() {
-        return type1;
+        return species.getType1();
     }
 
     public Type getType2() {
-        return type2;
+        return species.getType2();
+    }
+
+    public int[] getBaseStats() {
+        return species.getBaseStats();
+    }
+
+    public int getIV(int stat) {
+        return (ivs >>> (stat * 5)) & 0x1F;
+    }
+
+    public int getEV(int stat) {
+        return (int) (evs >>> (stat * 8)) & 0xFF;
+    }
+
+    public int[] getIVs() {
+        int[] values = new int[SpreadGenerator.STATS];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getIV(i);
+        }
+        return values;
+    }
+
+    public int[] getEVs() {
+        int[] values = new int[SpreadGenerator.STATS];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getEV(i);
+        }
+        return values;
+    }
+
+    public int getStat(int stat) {
+        return (int) (stats >>> (stat * 10)) & 0x3FF;
     }
 
     public int getlevel() {
-        return level;
+        return LEVEL;
     }
 
     public int getHP() {
-        return HP;
+        return getStat(0);
     }
 
     public int getCurrentHP() {
@@ -234,33 +239,49 @@ public class PKMN implements Cloneable {
     }
 
     public int getAttack() {
-        return attack;
+        return getStat(1);
     }
 
     public int getDefense() {
-        return defense;
+        return getStat(2);
     }
 
     public int getSpecialAttack() {
-        return specialAttack;
+        return getStat(3);
     }
 
     public int getSpecialDefense() {
-        return specialDefense;
+        return getStat(4);
     }
 
     public int getSpeed() {
-        return speed;
+        return getStat(5);
+    }
+
+    public int getPp(int moveIndex) {
+        return (pp >>> (moveIndex * 8)) & 0xFF;
+    }
+
+    public void reducePp(int moveIndex) {
+        int current = getPp(moveIndex);
+        if (current > 0) {
+            setPp(moveIndex, current - 1);
+        }
+    }
+
+    private void setPp(int moveIndex, int value) {
+        int shift = moveIndex * 8;
+        pp = (pp & ~(0xFF << shift)) | ((value & 0xFF) << shift);
     }
 
     public double getPrecision() {
-        return precision;
+        return calculateModifier(precisionLevel);
     }
 
     public double getEvasion() {
-        return evasion;
+        return calculateModifier(evasionLevel);
     }
-    
+
     public int getPrecisionLevel() {
         return precisionLevel;
     }
@@ -268,18 +289,16 @@ public class PKMN implements Cloneable {
     public int getEvasionLevel() {
         return evasionLevel;
     }
-    
+
     public void setPrecisionLevel(int level) {
-        this.precisionLevel = Math.max(-6, Math.min(level, 6));
-        this.precision = calculateModifier(this.precisionLevel);
+        this.precisionLevel = (byte) Math.max(-6, Math.min(level, 6));
     }
-    
+
     public void setEvasionLevel(int level) {
-        this.evasionLevel = Math.max(-6, Math.min(level, 6));
-        this.evasion = calculateModifier(this.evasionLevel);
+        this.evasionLevel = (byte) Math.max(-6, Math.min(level, 6));
     }
 
-    private double calculateModifier(int level) {
+    public static double calculateModifier(int level) {
         if (level > 0) {
             return 1 + (level * 0.33);
         } else if (level < 0) {
@@ -291,12 +310,12 @@ public class PKMN implements Cloneable {
     public void modifyPrecision(int level) {
         setPrecisionLevel(precisionLevel + level);
     }
-    
+
     public void modifyEvasion(int level) {
         setEvasionLevel(evasionLevel + level);
-    } 
+    }
 
     public Move[] getMoves() {
-        return moves;
+        return species.moves;
     }
 }
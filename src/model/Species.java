@@ -0,0 +1,73 @@
+package model;
+
+public final class Species {
+
+    public static final int MOVES = 4;
+
+    private final String name;
+    private final Type type1;
+    private final Type type2;
+    private final int[] baseStats;
+    final Move[] moves;
+
+    public Species(String name, Type type1, Type type2, int[] baseStats) {
+        this(name, type1, type2, baseStats, new Move[MOVES]);
+    }
+
+    public Species(String name, Type type1, Type type2, int[] baseStats, Move[] moves) {
+        if (baseStats.length != SpreadGenerator.STATS || moves.length != MOVES) {
+            throw new IllegalArgumentException("Especie inválida: " + name);
+        }
+        this.name = name;
+        this.type1 = type1;
+        this.type2 = type2;
+        this.baseStats = baseStats.clone();
+        this.moves = moves.clone();
+    }
+
+    public Species withMove(Move move, int index) {
+        Move[] copy = moves.clone();
+        copy[index] = move;
+        return new Species(name, type1, type2, baseStats, copy);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Type getType1() {
+        return type1;
+    }
+
+    public Type getType2() {
+        return type2;
+    }
+
+    public int getBaseStat(int stat) {
+        return baseStats[stat];
+    }
+
+    public int[] getBaseStats() {
+        return baseStats.clone();
+    }
+
+    public Move getMove(int index) {
+        return moves[index];
+    }
+
+    public int getMoveId(int index) {
+        return moves[index] == null ? Move.NO_ID : moves[index].getId();
+    }
+
+    public Move[] getMoves() {
+        return moves.clone();
+    }
+
+    public int getBaseStatTotal() {
+        int total = 0;
+        for (int stat : baseStats) {
+            total += stat;
+        }
+        return total;
+    }
+}
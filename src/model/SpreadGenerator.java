@@ -0,0 +1,75 @@
+package model;
+
+import java.util.random.RandomGenerator;
+
+public interface SpreadGenerator {
+
+    int STATS = 6;
+    int MAX_IV = 31;
+    int MAX_STAT_EVS = 252;
+    int MAX_TOTAL_EVS = 510;
+
+    SpreadGenerator UNIFORM = (random, ivs, evs, offset) -> {
+        uniformIVs(random, ivs, offset);
+        uniformEVs(random, evs, offset);
+    };
+
+    void generate(RandomGenerator random, int[] ivs, int[] evs, int offset);
+
+    default void fill(RandomGenerator random, int[] ivs, int[] evs, int count) {
+        if (ivs.length < count * STATS || evs.length < count * STATS) {
+            throw new IllegalArgumentException("Los arreglos no tienen espacio para " + count + " distribuciones");
+        }
+        for (int i = 0; i < count; i++) {
+            generate(random, ivs, evs, i * STATS);
+        }
+    }
+
+    static SpreadGenerator fixed(int[] ivs, int[] evs) {
+        validate(ivs, evs, 0);
+        int[] fixedIVs = ivs.clone();
+        int[] fixedEVs = evs.clone();
+        return (random, targetIVs, targetEVs, offset) -> {
+            System.arraycopy(fixedIVs, 0, targetIVs, offset, STATS);
+            System.arraycopy(fixedEVs, 0, targetEVs, offset, STATS);
+        };
+    }
+
+    static SpreadGenerator presets(SpreadPreset... presets) {
+        if (presets.length == 0) {
+            throw new IllegalArgumentException("Se necesita al menos una distribución competitiva");
+        }
+        SpreadPreset[] choices = presets.clone();
+        return (random, ivs, evs, offset) -> {
+            SpreadPreset preset = choices.length == 1 ? choices[0] : choices[random.nextInt(choices.length)];
+            preset.copyTo(ivs, evs, offset);
+        };
+    }
+
+    static void uniformIVs(RandomGenerator random, int[] ivs, int offset) {
+        long bits = random.nextLong();
+        for (int i = 0; i < STATS; i++) {
+            ivs[offset + i] = (int) (bits >>> (i * 5)) & MAX_IV;
+        }
+    }
+
+    static void uniformEVs(RandomGenerator random, int[] evs, int offset) {
+        EVCounts.sample(random, evs, offset);
+    }
+
+    static void validate(int[] ivs, int[] evs, int offset) {
+        int total = 0;
+        for (int i = offset; i < offset + STATS; i++) {
+            if (ivs[i] < 0 || ivs[i] > MAX_IV) {
+                throw new IllegalArgumentException("IV fuera de rango: " + ivs[i]);
+            }
+            if (evs[i] < 0 || evs[i] > MAX_STAT_EVS) {
+                throw new IllegalArgumentException("EV fuera de rango: " + evs[i]);
+            }
+            total += evs[i];
+        }
+        if (total > MAX_TOTAL_EVS) {
+            throw new IllegalArgumentException("La suma de EVs supera " + MAX_TOTAL_EVS + ": " + total);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package model;
+
+public enum SpreadPreset {
+
+    PHYSICAL_SWEEPER("Atacante físico", 4, 252, 0, 0, 0, 252),
+    SPECIAL_SWEEPER("Atacante especial", 4, 0, 0, 252, 0, 252),
+    PHYSICAL_WALL("Muro físico", 252, 0, 252, 0, 4, 0),
+    SPECIAL_WALL("Muro especial", 252, 0, 4, 0, 252, 0),
+    BULKY_PHYSICAL("Atacante físico resistente", 252, 252, 4, 0, 0, 0),
+    BULKY_SPECIAL("Atacante especial resistente", 252, 0, 0, 252, 4, 0);
+
+    private final String name;
+    private final int[] evs;
+
+    SpreadPreset(String name, int... evs) {
+        this.name = name;
+        this.evs = evs;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int[] getEVs() {
+        return evs.clone();
+    }
+
+    void copyTo(int[] ivs, int[] evs, int offset) {
+        for (int i = 0; i < SpreadGenerator.STATS; i++) {
+            ivs[offset + i] = SpreadGenerator.MAX_IV;
+        }
+        System.arraycopy(this.evs, 0, evs, offset, SpreadGenerator.STATS);
+    }
+}
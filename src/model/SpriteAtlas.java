@@ -0,0 +1,76 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SpriteAtlas {
+
+    public static final int MAGIC = 0x504B5350;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 12;
+    public static final String DEFAULT_FILE = "sprites/atlas.bin";
+
+    private final ByteBuffer buffer;
+    private final Map<String, Integer> records;
+    private final String[] keys;
+    private final int count;
+
+    private SpriteAtlas(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Atlas de sprites inválido");
+        }
+        this.count = buffer.getInt(8);
+        int stringsOffset = buffer.getInt(12);
+        this.keys = new String[count];
+        this.records = new HashMap<>(count * 2);
+        for (int record = 0; record < count; record++) {
+            int base = HEADER_SIZE + record * RECORD_SIZE;
+            int keyOffset = stringsOffset + buffer.getInt(base);
+            int length = buffer.getShort(keyOffset) & 0xFFFF;
+            byte[] bytes = new byte[length];
+            buffer.get(keyOffset + 2, bytes);
+            keys[record] = new String(bytes, StandardCharsets.UTF_8);
+            records.put(keys[record], record);
+        }
+    }
+
+    public static SpriteAtlas open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new SpriteAtlas(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean contains(String key) {
+        return key != null && records.containsKey(normalize(key));
+    }
+
+    public String getKey(int record) {
+        return keys[record];
+    }
+
+    public ByteBuffer getSprite(String key) {
+        Integer record = key == null ? null : records.get(normalize(key));
+        return record == null ? null : getSprite(record);
+    }
+
+    public ByteBuffer getSprite(int record) {
+        int base = HEADER_SIZE + record * RECORD_SIZE;
+        return buffer.slice(buffer.getInt(base + 4), buffer.getInt(base + 8)).asReadOnlyBuffer();
+    }
+
+    public static String normalize(String key) {
+        return key.replace('\\', '/');
+    }
+}
@@ -0,0 +1,159 @@
+package model;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.ImageIO;
+
+public class SpriteCache {
+
+    public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+    private final SpriteAtlas atlas;
+    private final long maxBytes;
+    private final Executor executor;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long weight;
+
+    public SpriteCache(SpriteAtlas atlas) {
+        this(atlas, DEFAULT_MAX_BYTES, ForkJoinPool.commonPool());
+    }
+
+    public SpriteCache(SpriteAtlas atlas, long maxBytes, Executor executor) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo de la caché debe ser positivo");
+        }
+        this.atlas = atlas;
+        this.maxBytes = maxBytes;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<BufferedImage> get(String key) {
+        String normalized = SpriteAtlas.normalize(key);
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(normalized);
+            if (entry != null) {
+                hits.incrementAndGet();
+                return entry.image.copy();
+            }
+            misses.incrementAndGet();
+            entry = new Entry();
+            entries.put(normalized, entry);
+        }
+        Entry created = entry;
+        CompletableFuture.supplyAsync(() -> decode(normalized), executor).whenComplete((image, error) -> {
+            if (error != null) {
+                synchronized (this) {
+                    entries.remove(normalized, created);
+                }
+                created.image.completeExceptionally(error);
+            } else {
+                loaded(normalized, created, image);
+                created.image.complete(image);
+            }
+        });
+        return entry.image.copy();
+    }
+
+    public BufferedImage getNow(String key) {
+        return get(key).getNow(null);
+    }
+
+    public synchronized boolean contains(String key) {
+        Entry entry = entries.get(SpriteAtlas.normalize(key));
+        return entry != null && entry.image.isDone() && !entry.image.isCompletedExceptionally();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    private synchronized void loaded(String key, Entry entry, BufferedImage image) {
+        if (entries.get(key) != entry) {
+            return;
+        }
+        long size = (long) image.getWidth() * image.getHeight() * 4;
+        if (size > maxBytes) {
+            entries.remove(key);
+            return;
+        }
+        entry.weight = size;
+        weight += entry.weight;
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (weight > maxBytes && eldest.hasNext()) {
+            Entry candidate = eldest.next().getValue();
+            if (candidate != entry && candidate.weight > 0) {
+                eldest.remove();
+                weight -= candidate.weight;
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private BufferedImage decode(String key) {
+        try {
+            byte[] bytes;
+            ByteBuffer sprite = atlas == null ? null : atlas.getSprite(key);
+            if (sprite != null) {
+                bytes = new byte[sprite.remaining()];
+                sprite.get(bytes);
+            } else {
+                bytes = Files.readAllBytes(Path.of(key));
+            }
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+            if (image == null) {
+                throw new IOException("Formato de imagen no reconocido: " + key);
+            }
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<BufferedImage> image = new CompletableFuture<>();
+        private long weight;
+    }
+}
@@ -3,52 +3,17 @@ package model;
 public class Team {
 
     private final PKMN[] team;
-    private int count;
-    private final int teamSize;
 
-    public Team(int teamSize) {
-        this.teamSize = teamSize;
-        team = new PKMN[teamSize];
-        count = 0;
-    }
-
-    public boolean addToTeam(PKMN pokemon) {
-        if (count < teamSize) {
-            team[count] = pokemon;
-            count++;
-            return true;
-        } else {
-            System.out.println("El equipo ya está completo. No puedes agregar más Pokémon.");
-            return false;
-        }
-    }
-
-    public boolean removeFromTeam(int index) {
-        if (index >= 0 && index < count) {
-            for (int i = index; i < count - 1; i++) {
-                team[i] = team[i + 1];
-            }
-            team[count - 1] = null;
-            count--;
-            return true;
-        } else {
-            System.out.println("Índice no válido. No se pudo eliminar el Pokémon.");
-            return false;
+    public Team(PKMN... members) {
+        if (members.length == 0) {
+            throw new IllegalArgumentException("El equipo debe tener al menos un Pokémon");
         }
-    }
-
-    public boolean removePokemon(PKMN pokemon) {
-        for (int i = 0; i < count; i++) {
-            if (team[i].equals(pokemon)) {
-                for (int j = i; j < count - 1; j++) {
-                    team[j] = team[j + 1];
-                }
-                team[count - 1] = null;
-                count--;
-                return true;
+        for (PKMN member : members) {
+            if (member == null) {
+                throw new IllegalArgumentException("El equipo no puede tener posiciones vacías");
             }
         }
-        return false;
+        team = members.clone();
     }
 
     public PKMN getPokemon(int index) {
@@ -56,28 +21,12 @@ public class Team {
     }
 
     public void showTeam() {
-        if (count == 0) {
-            System.out.println("El equipo está vacío.");
-        } else {
-            for (int i = 0; i < count; i++) {
-                System.out.println((i + 1) + ". " + team[i].getName());
-            }
+        for (int i = 0; i < team.length; i++) {
+            System.out.println((i + 1) + ". " + team[i].getName());
         }
     }
 
     public int getTeamSize() {
-        return teamSize;
-    }
-
-    public int getCurrentSize() {
-        return count;
-    }
-
-    public boolean isEmpty() {
-        return count == 0;
-    }
-
-    public boolean isFull() {
-        return count == teamSize;
+        return team.length;
     }
 }
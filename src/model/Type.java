@@ -1,29 +1,124 @@
 package model;
 
-import java.util.HashMap;
+import java.util.Arrays;
 
 public class Type {
 
+    public static final int MAX_TYPES = 32;
+
+    private static final Type[] registry = new Type[MAX_TYPES];
+    private static final double[][] chart = new double[MAX_TYPES][MAX_TYPES];
+    private static int count;
+    private static volatile DualChart dualChart;
+
+    static {
+        for (double[] row : chart) {
+            Arrays.fill(row, 1.0);
+        }
+    }
+
     private final String name;
-    private final HashMap<String, Double> effectivenessMap;
+    private final int id;
 
-    public Type(String name) {
+    private Type(String name, int id) {
         this.name = name;
-        effectivenessMap = new HashMap<>();
+        this.id = id;
+    }
+
+    public static synchronized Type of(String name) {
+        for (int i = 0; i < count; i++) {
+            if (registry[i].name.equals(name)) {
+                return registry[i];
+            }
+        }
+        if (count == MAX_TYPES) {
+            throw new IllegalStateException("No se pueden registrar más de " + MAX_TYPES + " tipos");
+        }
+        Type type = new Type(name, count);
+        registry[count++] = type;
+        dualChart = null;
+        return type;
+    }
+
+    public static synchronized Type byId(int id) {
+        if (id < 0 || id >= count) {
+            throw new IllegalArgumentException("Tipo inexistente: " + id);
+        }
+        return registry[id];
+    }
+
+    public static synchronized int count() {
+        return count;
     }
 
     public String getName() {
         return name;
     }
 
+    public int getId() {
+        return id;
+    }
+
     public void addEffectiveness(String otherType, double effectivenessValue) {
-        effectivenessMap.put(otherType, effectivenessValue);
+        addEffectiveness(of(otherType), effectivenessValue);
+    }
+
+    public void addEffectiveness(Type otherType, double effectivenessValue) {
+        synchronized (Type.class) {
+            chart[id][otherType.id] = effectivenessValue;
+            dualChart = null;
+        }
     }
 
     public double getEffectiveness(Type otherType) {
         if (otherType == null) {
             throw new IllegalArgumentException("El tipo no puede ser nulo");
         }
-        return effectivenessMap.getOrDefault(otherType.getName(), 1.0);
+        return chart[id][otherType.id];
+    }
+
+    public double getEffectiveness(Type type1, Type type2) {
+        if (type1 == null || type2 == null) {
+            throw new IllegalArgumentException("El tipo no puede ser nulo");
+        }
+        return effectiveness(id, type1.id, type2.id);
+    }
+
+    public static double effectiveness(int attackType, int defenseType1, int defenseType2) {
+        DualChart table = dualChart;
+        if (table == null) {
+            table = buildDualChart();
+        }
+        return table.values[(attackType * table.stride + defenseType1) * table.stride + defenseType2];
+    }
+
+    private static synchronized DualChart buildDualChart() {
+        DualChart table = dualChart;
+        if (table != null) {
+            return table;
+        }
+        int n = count;
+        double[] values = new double[n * n * n];
+        for (int attack = 0; attack < n; attack++) {
+            for (int defense1 = 0; defense1 < n; defense1++) {
+                for (int defense2 = 0; defense2 < n; defense2++) {
+                    values[(attack * n + defense1) * n + defense2] = chart[attack][defense1] * chart[attack][defense2];
+                }
+            }
+        }
+        table = new DualChart(n, values);
+        dualChart = table;
+        return table;
+    }
+
+    private static final class DualChart {
+
+        private final int stride;
+        private final double[] values;
+
+        private DualChart(int stride, double[] values) {
+            this.stride = stride;
+            this.values = values;
+        }
     }
 }
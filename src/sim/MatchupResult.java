@@ -0,0 +1,87 @@
+package sim;
+
+public class MatchupResult {
+
+    private static final double Z_95 = 1.959963984540054;
+
+    private final int battles;
+    private final int winsA;
+    private final int winsB;
+    private final int draws;
+    private final long totalTurns;
+    private final long totalTurnsSquared;
+
+    public MatchupResult(int battles, int winsA, int winsB, int draws, long totalTurns, long totalTurnsSquared) {
+        this.battles = battles;
+        this.winsA = winsA;
+        this.winsB = winsB;
+        this.draws = draws;
+        this.totalTurns = totalTurns;
+        this.totalTurnsSquared = totalTurnsSquared;
+    }
+
+    public MatchupResult merge(MatchupResult other) {
+        return new MatchupResult(battles + other.battles, winsA + other.winsA, winsB + other.winsB,
+                draws + other.draws, totalTurns + other.totalTurns, totalTurnsSquared + other.totalTurnsSquared);
+    }
+
+    public int getBattles() {
+        return battles;
+    }
+
+    public int getWinsA() {
+        return winsA;
+    }
+
+    public int getWinsB() {
+        return winsB;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public double getWinRateA() {
+        return battles == 0 ? 0.0 : (double) winsA / battles;
+    }
+
+    public double getWinRateLow() {
+        return wilsonBound(-1);
+    }
+
+    public double getWinRateHigh() {
+        return wilsonBound(1);
+    }
+
+    public double getAverageTurns() {
+        return battles == 0 ? 0.0 : (double) totalTurns / battles;
+    }
+
+    public double getAverageTurnsMargin() {
+        if (battles < 2) {
+            return 0.0;
+        }
+        double mean = getAverageTurns();
+        double variance = (totalTurnsSquared - battles * mean * mean) / (battles - 1);
+        return Z_95 * Math.sqrt(Math.max(variance, 0.0) / battles);
+    }
+
+    private double wilsonBound(int sign) {
+        if (battles == 0) {
+            return 0.0;
+        }
+        double p = getWinRateA();
+        double z2 = Z_95 * Z_95;
+        double center = p + z2 / (2.0 * battles);
+        double margin = Z_95 * Math.sqrt(p * (1 - p) / battles + z2 / (4.0 * battles * battles));
+        return (center + sign * margin) / (1 + z2 / battles);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Batallas: %d | Victorias A: %d (%.2f%%, IC95 %.2f%%-%.2f%%) | Victorias B: %d | Empates: %d"
+                + " | Turnos promedio: %.2f ± %.2f",
+                battles, winsA, getWinRateA() * 100, getWinRateLow() * 100, getWinRateHigh() * 100, winsB, draws,
+                getAverageTurns(), getAverageTurnsMargin());
+    }
+}
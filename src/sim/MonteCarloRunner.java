@@ -0,0 +1,165 @@
+package sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+import engine.BattleEngine;
+import engine.BattleListener;
+import engine.BattleResult;
+import engine.BattleState;
+import engine.RandomAgent;
+import model.Dex;
+import model.PKMN;
+import model.SpreadGenerator;
+import model.Team;
+import utils.DexLoader;
+import utils.TeamLibrary;
+
+public class MonteCarloRunner {
+
+    private static final int CHUNK_SIZE = 2048;
+
+    private final int threads;
+    private final SpreadGenerator spreads;
+
+    public MonteCarloRunner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public MonteCarloRunner(int threads) {
+        this(threads, SpreadGenerator.UNIFORM);
+    }
+
+    public MonteCarloRunner(int threads, SpreadGenerator spreads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("El número de hilos debe ser positivo");
+        }
+        this.threads = threads;
+        this.spreads = spreads;
+    }
+
+    public MatchupResult run(PKMN[] teamA, PKMN[] teamB, int battles, long seed)
+            throws InterruptedException, ExecutionException {
+        return run(battles, seed, (count, random) -> simulate(teamA, teamB, count, random, spreads));
+    }
+
+    public MatchupResult run(Team teamA, Team teamB, int battles, long seed)
+            throws InterruptedException, ExecutionException {
+        return run(battles, seed, (count, random) -> simulate(teamA, teamB, count, random));
+    }
+
+    private MatchupResult run(int battles, long seed, BiFunction<Integer, SplittableRandom, MatchupResult> chunk)
+            throws InterruptedException, ExecutionException {
+        int chunks = (battles + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SplittableRandom root = new SplittableRandom(seed);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<MatchupResult>> futures = new ArrayList<>(chunks);
+            for (int i = 0; i < chunks; i++) {
+                int count = Math.min(CHUNK_SIZE, battles - i * CHUNK_SIZE);
+                SplittableRandom random = root.split();
+                futures.add(executor.submit(() -> chunk.apply(count, random)));
+            }
+            MatchupResult total = new MatchupResult(0, 0, 0, 0, 0, 0);
+            for (Future<MatchupResult> future : futures) {
+                total = total.merge(future.get());
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static MatchupResult simulate(PKMN[] teamA, PKMN[] teamB, int battles, SplittableRandom random,
+            SpreadGenerator spreads) {
+        Tally tally = new Tally();
+        RandomAgent agent = new RandomAgent(random);
+        int[] ivs = new int[(teamA.length + teamB.length) * SpreadGenerator.STATS];
+        int[] evs = new int[ivs.length];
+        for (int i = 0; i < battles; i++) {
+            spreads.fill(random, ivs, evs, teamA.length + teamB.length);
+            BattleEngine engine = new BattleEngine(buildTeam(teamA, ivs, evs, 0), agent,
+                    buildTeam(teamB, ivs, evs, teamA.length), agent, random);
+            tally.add(engine.run());
+        }
+        return tally.toResult(battles);
+    }
+
+    private static MatchupResult simulate(Team teamA, Team teamB, int battles, SplittableRandom random) {
+        Tally tally = new Tally();
+        RandomAgent agent = new RandomAgent(random);
+        BattleState state = new BattleState(teamA, teamB);
+        for (int i = 0; i < battles; i++) {
+            state.reset();
+            tally.add(new BattleEngine(state, agent, agent, random, BattleListener.NONE,
+                    BattleEngine.DEFAULT_MAX_TURNS).run());
+        }
+        return tally.toResult(battles);
+    }
+
+    private static Team buildTeam(PKMN[] members, int[] ivs, int[] evs, int first) {
+        PKMN[] team = new PKMN[members.length];
+        for (int i = 0; i < members.length; i++) {
+            team[i] = members[i].withSpread(ivs, evs, (first + i) * SpreadGenerator.STATS);
+        }
+        return new Team(team);
+    }
+
+    private static final class Tally {
+
+        private int winsA;
+        private int winsB;
+        private int draws;
+        private long turns;
+        private long turnsSquared;
+
+        void add(BattleResult result) {
+            switch (result.getWinner()) {
+                case 0 ->
+                    winsA++;
+                case 1 ->
+                    winsB++;
+                default ->
+                    draws++;
+            }
+            turns += result.getTurns();
+            turnsSquared += (long) result.getTurns() * result.getTurns();
+        }
+
+        MatchupResult toResult(int battles) {
+            return new MatchupResult(battles, winsA, winsB, draws, turns, turnsSquared);
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.err.println("Uso: MonteCarloRunner <equipoA> <equipoB> <batallas> [semilla]");
+            return;
+        }
+        try {
+            Dex pokedex = DexLoader.loadDex();
+            TeamLibrary library = TeamLibrary.load(TeamLibrary.TEAMS_JSON_FILE);
+            PKMN[] teamA = library.resolve(args[0], pokedex);
+            PKMN[] teamB = library.resolve(args[1], pokedex);
+            int battles = Integer.parseInt(args[2]);
+            long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+            MonteCarloRunner runner = new MonteCarloRunner();
+            long start = System.nanoTime();
+            MatchupResult result = runner.run(teamA, teamB, battles, seed);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.println(args[0] + " vs " + args[1] + " (semilla " + seed + ")");
+            System.out.println(result);
+            System.out.printf("%d hilos, %.0f batallas/s%n", runner.threads, battles / seconds);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package sim;
+
+import engine.BattleResult;
+
+public class SeriesResult {
+
+    private final int round;
+    private final String teamA;
+    private final String teamB;
+    private final int winsA;
+    private final int winsB;
+    private final int draws;
+
+    public SeriesResult(int round, String teamA, String teamB, int winsA, int winsB, int draws) {
+        this.round = round;
+        this.teamA = teamA;
+        this.teamB = teamB;
+        this.winsA = winsA;
+        this.winsB = winsB;
+        this.draws = draws;
+    }
+
+    public static SeriesResult bye(int round, String team) {
+        return new SeriesResult(round, team, null, 0, 0, 0);
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    public String getTeamA() {
+        return teamA;
+    }
+
+    public String getTeamB() {
+        return teamB;
+    }
+
+    public int getWinsA() {
+        return winsA;
+    }
+
+    public int getWinsB() {
+        return winsB;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public int getGames() {
+        return winsA + winsB + draws;
+    }
+
+    public boolean isBye() {
+        return teamB == null;
+    }
+
+    public int getWinner() {
+        if (isBye() || winsA > winsB) {
+            return 0;
+        }
+        return winsB > winsA ? 1 : BattleResult.DRAW;
+    }
+
+    @Override
+    public String toString() {
+        if (isBye()) {
+            return String.format("Ronda %d: %s descansa", round, teamA);
+        }
+        return String.format("Ronda %d: %s %d - %d %s (empates: %d)", round, teamA, winsA, winsB, teamB, draws);
+    }
+}
@@ -0,0 +1,65 @@
+package sim;
+
+public class Standing {
+
+    private final String team;
+    private final int seriesWins;
+    private final int seriesDraws;
+    private final int seriesLosses;
+    private final int gameWins;
+    private final int gameLosses;
+    private final int points;
+
+    public Standing(String team, int seriesWins, int seriesDraws, int seriesLosses, int gameWins, int gameLosses,
+            int points) {
+        this.team = team;
+        this.seriesWins = seriesWins;
+        this.seriesDraws = seriesDraws;
+        this.seriesLosses = seriesLosses;
+        this.gameWins = gameWins;
+        this.gameLosses = gameLosses;
+        this.points = points;
+    }
+
+    public String getTeam() {
+        return team;
+    }
+
+    public int getSeriesWins() {
+        return seriesWins;
+    }
+
+    public int getSeriesDraws() {
+        return seriesDraws;
+    }
+
+    public int getSeriesLosses() {
+        return seriesLosses;
+    }
+
+    public int getSeriesPlayed() {
+        return seriesWins + seriesDraws + seriesLosses;
+    }
+
+    public int getGameWins() {
+        return gameWins;
+    }
+
+    public int getGameLosses() {
+        return gameLosses;
+    }
+
+    public int getGameDifference() {
+        return gameWins - gameLosses;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-20s %4d pts | Series: %d-%d-%d | Partidas: %d-%d", team, points, seriesWins,
+                seriesDraws, seriesLosses, gameWins, gameLosses);
+    }
+}
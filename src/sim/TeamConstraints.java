@@ -0,0 +1,73 @@
+package sim;
+
+import java.util.Arrays;
+
+public final class TeamConstraints {
+
+    public static final TeamConstraints NONE = new TeamConstraints(0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 0,
+            new int[0]);
+
+    private final int minStatTotal;
+    private final int maxStatTotal;
+    private final int minTeamStatTotal;
+    private final int maxTeamStatTotal;
+    private final int maxPerType;
+    private final int[] excluded;
+
+    private TeamConstraints(int minStatTotal, int maxStatTotal, int minTeamStatTotal, int maxTeamStatTotal,
+            int maxPerType, int[] excluded) {
+        this.minStatTotal = minStatTotal;
+        this.maxStatTotal = maxStatTotal;
+        this.minTeamStatTotal = minTeamStatTotal;
+        this.maxTeamStatTotal = maxTeamStatTotal;
+        this.maxPerType = maxPerType;
+        this.excluded = excluded;
+    }
+
+    public TeamConstraints withStatTotalBand(int min, int max) {
+        checkBand(min, max);
+        return new TeamConstraints(min, max, minTeamStatTotal, maxTeamStatTotal, maxPerType, excluded);
+    }
+
+    public TeamConstraints withTeamStatTotalBand(int min, int max) {
+        checkBand(min, max);
+        return new TeamConstraints(minStatTotal, maxStatTotal, min, max, maxPerType, excluded);
+    }
+
+    public TeamConstraints withMaxPerType(int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException("El máximo por tipo debe ser positivo");
+        }
+        return new TeamConstraints(minStatTotal, maxStatTotal, minTeamStatTotal, maxTeamStatTotal, max, excluded);
+    }
+
+    public TeamConstraints excluding(int... dexNumbers) {
+        int[] merged = Arrays.copyOf(excluded, excluded.length + dexNumbers.length);
+        System.arraycopy(dexNumbers, 0, merged, excluded.length, dexNumbers.length);
+        Arrays.sort(merged);
+        return new TeamConstraints(minStatTotal, maxStatTotal, minTeamStatTotal, maxTeamStatTotal, maxPerType,
+                merged);
+    }
+
+    public boolean allows(int dexNumber, int statTotal) {
+        return statTotal >= minStatTotal && statTotal <= maxStatTotal && Arrays.binarySearch(excluded, dexNumber) < 0;
+    }
+
+    public int getMinTeamStatTotal() {
+        return minTeamStatTotal;
+    }
+
+    public int getMaxTeamStatTotal() {
+        return maxTeamStatTotal;
+    }
+
+    public int getMaxPerType() {
+        return maxPerType;
+    }
+
+    private static void checkBand(int min, int max) {
+        if (min < 0 || max < min) {
+            throw new IllegalArgumentException("Rango de estadísticas inválido: " + min + "-" + max);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package sim;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import model.Dex;
+import model.Species;
+import model.Type;
+
+public class TeamSampler {
+
+    public static final int MAX_TEAM_SIZE = 6;
+    public static final int MAX_ATTEMPTS = 1 << 16;
+
+    private static final String NO_TYPE = "Nulo";
+
+    private final int teamSize;
+    private final int[] dexNumbers;
+    private final int[] statTotals;
+    private final byte[] types1;
+    private final byte[] types2;
+    private final int minTeamStatTotal;
+    private final int maxTeamStatTotal;
+    private final int maxPerType;
+    private final long[][] binomials;
+
+    public TeamSampler(Dex dex, int teamSize) {
+        this(dex, teamSize, TeamConstraints.NONE);
+    }
+
+    public TeamSampler(Dex dex, int teamSize, TeamConstraints constraints) {
+        if (teamSize < 1 || teamSize > MAX_TEAM_SIZE) {
+            throw new IllegalArgumentException("El tamaño del equipo debe estar entre 1 y " + MAX_TEAM_SIZE);
+        }
+        int[] entrys = dex.getDexNumbers();
+        int[] numbers = new int[entrys.length];
+        int[] totals = new int[entrys.length];
+        byte[] first = new byte[entrys.length];
+        byte[] second = new byte[entrys.length];
+        int noType = Type.of(NO_TYPE).getId();
+        int count = 0;
+        for (int entry : entrys) {
+            Species species = dex.getSpecies(entry);
+            int total = species.getBaseStatTotal();
+            if (!constraints.allows(entry, total)) {
+                continue;
+            }
+            numbers[count] = entry;
+            totals[count] = total;
+            first[count] = typeId(species.getType1(), noType);
+            second[count] = typeId(species.getType2(), noType);
+            count++;
+        }
+        if (count < teamSize) {
+            throw new IllegalArgumentException("No hay suficientes Pokémon para formar un equipo de " + teamSize);
+        }
+        this.teamSize = teamSize;
+        this.dexNumbers = Arrays.copyOf(numbers, count);
+        this.statTotals = Arrays.copyOf(totals, count);
+        this.types1 = Arrays.copyOf(first, count);
+        this.types2 = Arrays.copyOf(second, count);
+        this.minTeamStatTotal = constraints.getMinTeamStatTotal();
+        this.maxTeamStatTotal = constraints.getMaxTeamStatTotal();
+        this.maxPerType = constraints.getMaxPerType();
+        this.binomials = binomials(count, teamSize);
+    }
+
+    public int getTeamSize() {
+        return teamSize;
+    }
+
+    public int getPoolSize() {
+        return dexNumbers.length;
+    }
+
+    public long sample(RandomGenerator random) {
+        return sample(random, new int[teamSize], new int[Type.MAX_TYPES]);
+    }
+
+    public void fill(RandomGenerator random, long[] teams, int offset, int count) {
+        int[] picks = new int[teamSize];
+        int[] typeCounts = new int[Type.MAX_TYPES];
+        for (int i = offset; i < offset + count; i++) {
+            teams[i] = sample(random, picks, typeCounts);
+        }
+    }
+
+    public int[] decode(long team) {
+        int[] members = new int[teamSize];
+        long rest = team;
+        int upper = dexNumbers.length;
+        for (int i = teamSize - 1; i >= 0; i--) {
+            long[] column = binomials[i + 1];
+            int low = i;
+            int high = upper - 1;
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (column[middle] <= rest) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            rest -= column[low];
+            members[i] = dexNumbers[low];
+            upper = low;
+        }
+        return members;
+    }
+
+    public long encode(int[] members) {
+        if (members.length != teamSize) {
+            throw new IllegalArgumentException("El equipo debe tener " + teamSize + " Pokémon");
+        }
+        int[] picks = new int[teamSize];
+        for (int i = 0; i < teamSize; i++) {
+            picks[i] = Arrays.binarySearch(dexNumbers, members[i]);
+            if (picks[i] < 0) {
+                throw new IllegalArgumentException("Pokémon fuera de la población: " + members[i]);
+            }
+            for (int j = 0; j < i; j++) {
+                if (picks[j] == picks[i]) {
+                    throw new IllegalArgumentException("Pokémon repetido en el equipo: " + members[i]);
+                }
+            }
+        }
+        return rank(picks);
+    }
+
+    private long sample(RandomGenerator random, int[] picks, int[] typeCounts) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            if (draw(random, picks, typeCounts)) {
+                return rank(picks);
+            }
+        }
+        throw new IllegalStateException("Las restricciones no permiten formar equipos de " + teamSize);
+    }
+
+    private boolean draw(RandomGenerator random, int[] picks, int[] typeCounts) {
+        int pool = dexNumbers.length;
+        int teamStatTotal = 0;
+        for (int i = 0; i < teamSize; i++) {
+            int pick;
+            do {
+                pick = random.nextInt(pool);
+            } while (contains(picks, i, pick));
+            picks[i] = pick;
+            teamStatTotal += statTotals[pick];
+        }
+        if (teamStatTotal < minTeamStatTotal || teamStatTotal > maxTeamStatTotal) {
+            return false;
+        }
+        return maxPerType == 0 || typeBalanced(picks, typeCounts);
+    }
+
+    private boolean typeBalanced(int[] picks, int[] typeCounts) {
+        boolean balanced = true;
+        for (int i = 0; i < teamSize && balanced; i++) {
+            balanced = count(typeCounts, types1[picks[i]]) && count(typeCounts, types2[picks[i]]);
+        }
+        for (int pick : picks) {
+            clear(typeCounts, types1[pick]);
+            clear(typeCounts, types2[pick]);
+        }
+        return balanced;
+    }
+
+    private boolean count(int[] typeCounts, int type) {
+        return type < 0 || ++typeCounts[type] <= maxPerType;
+    }
+
+    private static void clear(int[] typeCounts, int type) {
+        if (type >= 0) {
+            typeCounts[type] = 0;
+        }
+    }
+
+    private static boolean contains(int[] picks, int length, int pick) {
+        for (int i = 0; i < length; i++) {
+            if (picks[i] == pick) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long rank(int[] picks) {
+        for (int i = 1; i < teamSize; i++) {
+            int value = picks[i];
+            int j = i - 1;
+            while (j >= 0 && picks[j] > value) {
+                picks[j + 1] = picks[j];
+                j--;
+            }
+            picks[j + 1] = value;
+        }
+        long rank = 0;
+        for (int i = 0; i < teamSize; i++) {
+            rank += binomials[i + 1][picks[i]];
+        }
+        return rank;
+    }
+
+    private static byte typeId(Type type, int noType) {
+        return (type == null || type.getId() == noType) ? -1 : (byte) type.getId();
+    }
+
+    private static long[][] binomials(int n, int k) {
+        long[][] table = new long[k + 1][n + 1];
+        for (int m = 0; m <= n; m++) {
+            table[0][m] = 1;
+        }
+        try {
+            for (int r = 1; r <= k; r++) {
+                for (int m = 1; m <= n; m++) {
+                    table[r][m] = Math.addExact(table[r][m - 1], table[r - 1][m - 1]);
+                }
+            }
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("La población es demasiado grande para codificar equipos de " + k);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,334 @@
+package sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import engine.BattleEngine;
+import engine.BattleListener;
+import engine.BattleResult;
+import engine.BattleState;
+import engine.RandomAgent;
+import model.Dex;
+import model.PKMN;
+import model.Team;
+import utils.DexLoader;
+import utils.TeamLibrary;
+
+public class Tournament {
+
+    public static final int POINTS_WIN = 3;
+    public static final int POINTS_DRAW = 1;
+    public static final int DEFAULT_BEST_OF = 3;
+
+    private static final int BYE = -1;
+
+    private final String[] names;
+    private final Team[] teams;
+    private final int bestOf;
+    private final int threads;
+    private final TournamentListener listener;
+    private final int[] seriesWins;
+    private final int[] seriesDraws;
+    private final int[] seriesLosses;
+    private final int[] gameWins;
+    private final int[] gameLosses;
+    private final BitSet[] opponents;
+    private final boolean[] byes;
+
+    public Tournament(String[] names, Team[] teams, int bestOf) {
+        this(names, teams, bestOf, Runtime.getRuntime().availableProcessors(), TournamentListener.NONE);
+    }
+
+    public Tournament(String[] names, Team[] teams, int bestOf, int threads, TournamentListener listener) {
+        if (names.length != teams.length || teams.length < 2) {
+            throw new IllegalArgumentException("Un torneo necesita al menos dos equipos con nombre");
+        }
+        if (bestOf < 1 || bestOf % 2 == 0) {
+            throw new IllegalArgumentException("Las series deben jugarse al mejor de un número impar de partidas");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("El número de hilos debe ser positivo");
+        }
+        int count = teams.length;
+        this.names = names.clone();
+        this.teams = teams.clone();
+        this.bestOf = bestOf;
+        this.threads = threads;
+        this.listener = listener;
+        this.seriesWins = new int[count];
+        this.seriesDraws = new int[count];
+        this.seriesLosses = new int[count];
+        this.gameWins = new int[count];
+        this.gameLosses = new int[count];
+        this.opponents = new BitSet[count];
+        this.byes = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            opponents[i] = new BitSet(count);
+        }
+    }
+
+    public static int defaultSwissRounds(int teams) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(teams - 1));
+    }
+
+    public List<Standing> run(TournamentFormat format, int rounds, long seed)
+            throws InterruptedException, ExecutionException {
+        return format == TournamentFormat.SWISS ? runSwiss(rounds, seed) : runRoundRobin(seed);
+    }
+
+    public List<Standing> runRoundRobin(long seed) throws InterruptedException, ExecutionException {
+        clear();
+        List<int[]> pairings = new ArrayList<>();
+        for (int a = 0; a < teams.length; a++) {
+            for (int b = a + 1; b < teams.length; b++) {
+                pairings.add(new int[]{a, b});
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            playRound(pool, 1, pairings, new SplittableRandom(seed));
+        } finally {
+            pool.shutdownNow();
+        }
+        return getStandings();
+    }
+
+    public List<Standing> runSwiss(int rounds, long seed) throws InterruptedException, ExecutionException {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("El torneo suizo necesita al menos una ronda");
+        }
+        clear();
+        SplittableRandom root = new SplittableRandom(seed);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            for (int round = 1; round <= rounds; round++) {
+                playRound(pool, round, pairSwiss(round), root);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return getStandings();
+    }
+
+    public synchronized List<Standing> getStandings() {
+        Integer[] order = ranking();
+        List<Standing> standings = new ArrayList<>(order.length);
+        for (int team : order) {
+            standings.add(new Standing(names[team], seriesWins[team], seriesDraws[team], seriesLosses[team],
+                    gameWins[team], gameLosses[team], points(team)));
+        }
+        return standings;
+    }
+
+    private synchronized void clear() {
+        Arrays.fill(seriesWins, 0);
+        Arrays.fill(seriesDraws, 0);
+        Arrays.fill(seriesLosses, 0);
+        Arrays.fill(gameWins, 0);
+        Arrays.fill(gameLosses, 0);
+        Arrays.fill(byes, false);
+        for (BitSet played : opponents) {
+            played.clear();
+        }
+    }
+
+    private void playRound(ForkJoinPool pool, int round, List<int[]> pairings, SplittableRandom root)
+            throws InterruptedException, ExecutionException {
+        int series = (int) pairings.stream().filter(pairing -> pairing[1] != BYE).count();
+        listener.roundStarted(round, series);
+        List<Future<?>> futures = new ArrayList<>(series);
+        for (int[] pairing : pairings) {
+            int a = pairing[0];
+            int b = pairing[1];
+            if (b == BYE) {
+                record(a, BYE, SeriesResult.bye(round, names[a]));
+                continue;
+            }
+            SplittableRandom random = root.split();
+            futures.add(pool.submit(() -> record(a, b, playSeries(round, a, b, random))));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException | InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    private SeriesResult playSeries(int round, int a, int b, SplittableRandom random) {
+        RandomAgent agent = new RandomAgent(random);
+        BattleState[] states = {new BattleState(teams[a], teams[b]), new BattleState(teams[b], teams[a])};
+        int needed = bestOf / 2 + 1;
+        int winsA = 0;
+        int winsB = 0;
+        int draws = 0;
+        for (int game = 0; game < bestOf && winsA < needed && winsB < needed; game++) {
+            int side = game & 1;
+            BattleState state = states[side];
+            state.reset();
+            BattleResult result = new BattleEngine(state, agent, agent, random, BattleListener.NONE,
+                    BattleEngine.DEFAULT_MAX_TURNS).run();
+            if (result.isDraw()) {
+                draws++;
+            } else if (result.getWinner() == side) {
+                winsA++;
+            } else {
+                winsB++;
+            }
+        }
+        return new SeriesResult(round, names[a], names[b], winsA, winsB, draws);
+    }
+
+    private void record(int a, int b, SeriesResult result) {
+        List<Standing> standings;
+        synchronized (this) {
+            if (result.isBye()) {
+                byes[a] = true;
+                seriesWins[a]++;
+            } else {
+                opponents[a].set(b);
+                opponents[b].set(a);
+                gameWins[a] += result.getWinsA();
+                gameLosses[a] += result.getWinsB();
+                gameWins[b] += result.getWinsB();
+                gameLosses[b] += result.getWinsA();
+                switch (result.getWinner()) {
+                    case 0 -> {
+                        seriesWins[a]++;
+                        seriesLosses[b]++;
+                    }
+                    case 1 -> {
+                        seriesWins[b]++;
+                        seriesLosses[a]++;
+                    }
+                    default -> {
+                        seriesDraws[a]++;
+                        seriesDraws[b]++;
+                    }
+                }
+            }
+            standings = listener == TournamentListener.NONE ? null : getStandings();
+        }
+        if (standings != null) {
+            listener.seriesFinished(result, standings);
+        }
+    }
+
+    private List<int[]> pairSwiss(int round) {
+        Integer[] order;
+        synchronized (this) {
+            order = ranking();
+        }
+        boolean[] paired = new boolean[order.length];
+        List<int[]> pairings = new ArrayList<>();
+        if (order.length % 2 == 1) {
+            int bye = order.length - 1;
+            while (bye > 0 && byes[order[bye]]) {
+                bye--;
+            }
+            paired[bye] = true;
+            pairings.add(new int[]{order[bye], BYE});
+        }
+        for (int i = 0; i < order.length; i++) {
+            if (paired[i]) {
+                continue;
+            }
+            int opponent = -1;
+            for (int j = i + 1; j < order.length; j++) {
+                if (!paired[j]) {
+                    if (!opponents[order[i]].get(order[j])) {
+                        opponent = j;
+                        break;
+                    }
+                    if (opponent == -1) {
+                        opponent = j;
+                    }
+                }
+            }
+            if (opponent == -1) {
+                break;
+            }
+            paired[i] = true;
+            paired[opponent] = true;
+            pairings.add(new int[]{order[i], order[opponent]});
+        }
+        return pairings;
+    }
+
+    private Integer[] ranking() {
+        Integer[] order = new Integer[teams.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(this::points).reversed()
+                .thenComparing(Comparator.<Integer>comparingInt(team -> gameWins[team] - gameLosses[team]).reversed())
+                .thenComparingInt(team -> team));
+        return order;
+    }
+
+    private int points(int team) {
+        return seriesWins[team] * POINTS_WIN + seriesDraws[team] * POINTS_DRAW;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Uso: Tournament <round-robin|swiss> [mejorDe] [semilla] [rondas]");
+            return;
+        }
+        try {
+            TournamentFormat format = TournamentFormat.of(args[0]);
+            int bestOf = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BEST_OF;
+            long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+            Dex pokedex = DexLoader.loadDex();
+            TeamLibrary library = TeamLibrary.load(TeamLibrary.TEAMS_JSON_FILE);
+            String[] names = library.getTeamNames();
+            Team[] teams = new Team[names.length];
+            SplittableRandom root = new SplittableRandom(seed);
+            SplittableRandom spreads = root.split();
+            SplittableRandom schedule = root.split();
+            for (int i = 0; i < names.length; i++) {
+                PKMN[] members = library.resolve(names[i], pokedex);
+                for (int j = 0; j < members.length; j++) {
+                    members[j] = members[j].clone(spreads);
+                }
+                teams[i] = new Team(members);
+            }
+            int rounds = args.length > 3 ? Integer.parseInt(args[3]) : defaultSwissRounds(teams.length);
+
+            Tournament tournament = new Tournament(names, teams, bestOf, Runtime.getRuntime().availableProcessors(),
+                    new TournamentListener() {
+                        @Override
+                        public void roundStarted(int round, int series) {
+                            System.out.println("\n--Ronda " + round + " (" + series + " series)--");
+                        }
+
+                        @Override
+                        public void seriesFinished(SeriesResult result, List<Standing> standings) {
+                            System.out.println(result + " | Líder: " + standings.get(0).getTeam());
+                        }
+                    });
+            long start = System.nanoTime();
+            List<Standing> standings = tournament.run(format, rounds, schedule.nextLong());
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.println("\n--Clasificación final: " + format.getName() + ", al mejor de " + bestOf
+                    + " (semilla " + seed + ")--");
+            for (int i = 0; i < standings.size(); i++) {
+                System.out.printf("%3d. %s%n", i + 1, standings.get(i));
+            }
+            System.out.printf("%d equipos en %.2f s%n", teams.length, seconds);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
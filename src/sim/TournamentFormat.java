@@ -0,0 +1,32 @@
+package sim;
+
+public enum TournamentFormat {
+
+    ROUND_ROBIN("Todos contra todos", "round-robin"),
+    SWISS("Suizo", "swiss");
+
+    private final String name;
+    private final String id;
+
+    TournamentFormat(String name, String id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public static TournamentFormat of(String id) {
+        for (TournamentFormat format : values()) {
+            if (format.id.equals(id)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Formato de torneo desconocido: " + id);
+    }
+}
@@ -0,0 +1,15 @@
+package sim;
+
+import java.util.List;
+
+public interface TournamentListener {
+
+    TournamentListener NONE = new TournamentListener() {
+    };
+
+    default void roundStarted(int round, int series) {
+    }
+
+    default void seriesFinished(SeriesResult result, List<Standing> standings) {
+    }
+}
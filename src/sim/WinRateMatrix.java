@@ -0,0 +1,123 @@
+package sim;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class WinRateMatrix {
+
+    public static final int MAGIC = 0x504B5752;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final int SCALE = 0xFFFE;
+    public static final int NO_DATA = 0xFFFF;
+    public static final int NO_ENTRY = -1;
+    public static final String DEFAULT_FILE = "data/winrates.bin";
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int battlesPerPair;
+    private final long seed;
+    private final int[] dexNumbers;
+    private final long[] fingerprints;
+    private final int matrixOffset;
+
+    private WinRateMatrix(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Matriz de victorias inválida");
+        }
+        this.count = buffer.getInt(8);
+        this.battlesPerPair = buffer.getInt(12);
+        this.seed = buffer.getLong(16);
+        this.dexNumbers = new int[count];
+        this.fingerprints = new long[count];
+        int base = HEADER_SIZE;
+        for (int i = 0; i < count; i++) {
+            dexNumbers[i] = buffer.getInt(base + i * 4);
+        }
+        base += count * 4;
+        for (int i = 0; i < count; i++) {
+            fingerprints[i] = buffer.getLong(base + i * 8);
+        }
+        this.matrixOffset = base + count * 8;
+    }
+
+    public static WinRateMatrix open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new WinRateMatrix(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static int headerBytes(int count) {
+        return HEADER_SIZE + count * 12;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getBattlesPerPair() {
+        return battlesPerPair;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getDexNumber(int index) {
+        return dexNumbers[index];
+    }
+
+    public long getFingerprint(int index) {
+        return fingerprints[index];
+    }
+
+    public int indexOf(int dexNumber) {
+        int index = Arrays.binarySearch(dexNumbers, dexNumber);
+        return index < 0 ? NO_ENTRY : index;
+    }
+
+    public int getRaw(int row, int column) {
+        return buffer.getChar(matrixOffset + (row * count + column) * 2);
+    }
+
+    public boolean isComputed(int row, int column) {
+        return getRaw(row, column) != NO_DATA;
+    }
+
+    public double getWinRate(int row, int column) {
+        int raw = getRaw(row, column);
+        return raw == NO_DATA ? Double.NaN : (double) raw / SCALE;
+    }
+
+    public double getWinRateByDexNumber(int attacker, int defender) {
+        int row = indexOf(attacker);
+        int column = indexOf(defender);
+        return row == NO_ENTRY || column == NO_ENTRY ? Double.NaN : getWinRate(row, column);
+    }
+
+    public int[] bestCounters(int dexNumber, int limit) {
+        int column = indexOf(dexNumber);
+        if (column == NO_ENTRY) {
+            return new int[0];
+        }
+        long[] ranked = new long[count];
+        int size = 0;
+        for (int row = 0; row < count; row++) {
+            int raw = getRaw(row, column);
+            if (raw != NO_DATA && row != column) {
+                ranked[size++] = ((long) (SCALE - raw) << 32) | row;
+            }
+        }
+        Arrays.sort(ranked, 0, size);
+        int[] counters = new int[Math.min(limit, size)];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = dexNumbers[(int) ranked[i]];
+        }
+        return counters;
+    }
+}
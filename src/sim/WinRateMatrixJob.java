@@ -0,0 +1,330 @@
+package sim;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import engine.BattleEngine;
+import engine.BattleListener;
+import engine.BattleResult;
+import engine.BattleState;
+import engine.RandomAgent;
+import model.Dex;
+import model.Move;
+import model.PKMN;
+import model.Species;
+import model.SpreadGenerator;
+import model.Team;
+import utils.DexLoader;
+
+public class WinRateMatrixJob {
+
+    public static final int DEFAULT_BATTLES = 32;
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private final int[] dexNumbers;
+    private final long[] fingerprints;
+    private final Team[] teams;
+    private final int battlesPerPair;
+    private final long seed;
+    private final int threads;
+    private final int blockSize;
+
+    public WinRateMatrixJob(Dex pokedex, int battlesPerPair, long seed) {
+        this(pokedex, battlesPerPair, seed, Runtime.getRuntime().availableProcessors(), DEFAULT_BLOCK_SIZE);
+    }
+
+    public WinRateMatrixJob(Dex pokedex, int battlesPerPair, long seed, int threads, int blockSize) {
+        if (battlesPerPair < 1 || threads < 1 || blockSize < 1) {
+            throw new IllegalArgumentException("Batallas, hilos y tamaño de bloque deben ser positivos");
+        }
+        this.dexNumbers = pokedex.getDexNumbers();
+        Arrays.sort(dexNumbers);
+        this.fingerprints = new long[dexNumbers.length];
+        this.teams = new Team[dexNumbers.length];
+        int[] ivs = new int[SpreadGenerator.STATS];
+        int[] evs = new int[SpreadGenerator.STATS];
+        Arrays.fill(ivs, SpreadGenerator.MAX_IV);
+        for (int i = 0; i < dexNumbers.length; i++) {
+            Species species = pokedex.getSpecies(dexNumbers[i]);
+            fingerprints[i] = fingerprint(species);
+            teams[i] = new Team(new PKMN(species, ivs, evs, 0));
+        }
+        this.battlesPerPair = battlesPerPair;
+        this.seed = seed;
+        this.threads = threads;
+        this.blockSize = blockSize;
+    }
+
+    public int size() {
+        return dexNumbers.length;
+    }
+
+    public Report run(WinRateMatrix previous, Path output, Duration budget)
+            throws IOException, InterruptedException, ExecutionException {
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+        int count = dexNumbers.length;
+        char[] matrix = new char[count * count];
+        boolean[][] dirty = new boolean[count][];
+        long reused = reuse(previous, matrix, dirty);
+
+        AtomicLong computed = new AtomicLong();
+        AtomicLong skipped = new AtomicLong();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int rowBlock = 0; rowBlock < count; rowBlock += blockSize) {
+                for (int columnBlock = rowBlock; columnBlock < count; columnBlock += blockSize) {
+                    if (hasDirtyPair(dirty, rowBlock, columnBlock)) {
+                        int rows = rowBlock;
+                        int columns = columnBlock;
+                        futures.add(pool.submit(() -> computeBlock(matrix, dirty, rows, columns, deadline,
+                                computed, skipped)));
+                    }
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        write(output, matrix);
+        return new Report(count, reused, computed.get(), skipped.get(), System.nanoTime() - start);
+    }
+
+    private long reuse(WinRateMatrix previous, char[] matrix, boolean[][] dirty) {
+        int count = dexNumbers.length;
+        int[] oldIndex = new int[count];
+        boolean compatible = previous != null && previous.getBattlesPerPair() == battlesPerPair
+                && previous.getSeed() == seed;
+        for (int i = 0; i < count; i++) {
+            oldIndex[i] = compatible ? previous.indexOf(dexNumbers[i]) : WinRateMatrix.NO_ENTRY;
+            if (oldIndex[i] != WinRateMatrix.NO_ENTRY && previous.getFingerprint(oldIndex[i]) != fingerprints[i]) {
+                oldIndex[i] = WinRateMatrix.NO_ENTRY;
+            }
+        }
+        long reused = 0;
+        for (int i = 0; i < count; i++) {
+            dirty[i] = new boolean[count];
+            for (int j = i; j < count; j++) {
+                if (oldIndex[i] != WinRateMatrix.NO_ENTRY && oldIndex[j] != WinRateMatrix.NO_ENTRY
+                        && previous.isComputed(oldIndex[i], oldIndex[j])
+                        && previous.isComputed(oldIndex[j], oldIndex[i])) {
+                    matrix[i * count + j] = (char) previous.getRaw(oldIndex[i], oldIndex[j]);
+                    matrix[j * count + i] = (char) previous.getRaw(oldIndex[j], oldIndex[i]);
+                    reused++;
+                } else {
+                    matrix[i * count + j] = (char) WinRateMatrix.NO_DATA;
+                    matrix[j * count + i] = (char) WinRateMatrix.NO_DATA;
+                    dirty[i][j] = true;
+                }
+            }
+        }
+        return reused;
+    }
+
+    private boolean hasDirtyPair(boolean[][] dirty, int rowBlock, int columnBlock) {
+        int count = dexNumbers.length;
+        for (int i = rowBlock; i < Math.min(rowBlock + blockSize, count); i++) {
+            for (int j = Math.max(i, columnBlock); j < Math.min(columnBlock + blockSize, count); j++) {
+                if (dirty[i][j]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void computeBlock(char[] matrix, boolean[][] dirty, int rowBlock, int columnBlock, long deadline,
+            AtomicLong computed, AtomicLong skipped) {
+        int count = dexNumbers.length;
+        for (int i = rowBlock; i < Math.min(rowBlock + blockSize, count); i++) {
+            for (int j = Math.max(i, columnBlock); j < Math.min(columnBlock + blockSize, count); j++) {
+                if (!dirty[i][j]) {
+                    continue;
+                }
+                if (System.nanoTime() - deadline > 0) {
+                    skipped.incrementAndGet();
+                    continue;
+                }
+                int[] wins = playPair(i, j);
+                matrix[i * count + j] = quantize(wins[0]);
+                matrix[j * count + i] = quantize(wins[1]);
+                computed.incrementAndGet();
+            }
+        }
+    }
+
+    private int[] playPair(int a, int b) {
+        SplittableRandom random = new SplittableRandom(pairSeed(fingerprints[a], fingerprints[b]));
+        RandomAgent agent = new RandomAgent(random);
+        BattleState[] states = {new BattleState(teams[a], teams[b]), new BattleState(teams[b], teams[a])};
+        int[] wins = new int[2];
+        for (int battle = 0; battle < battlesPerPair; battle++) {
+            int side = battle & 1;
+            BattleState state = states[side];
+            state.reset();
+            BattleResult result = new BattleEngine(state, agent, agent, random, BattleListener.NONE,
+                    BattleEngine.DEFAULT_MAX_TURNS).run();
+            if (!result.isDraw()) {
+                wins[result.getWinner() == side ? 0 : 1]++;
+            }
+        }
+        return wins;
+    }
+
+    private char quantize(int wins) {
+        return (char) Math.round((double) wins * WinRateMatrix.SCALE / battlesPerPair);
+    }
+
+    private long pairSeed(long first, long second) {
+        return mix(seed ^ mix(first) ^ Long.rotateLeft(mix(second), 29));
+    }
+
+    private void write(Path output, char[] matrix) throws IOException {
+        int count = dexNumbers.length;
+        ByteBuffer header = ByteBuffer.allocate(WinRateMatrix.headerBytes(count));
+        header.putInt(WinRateMatrix.MAGIC).putInt(WinRateMatrix.VERSION).putInt(count).putInt(battlesPerPair)
+                .putLong(seed).putLong(0);
+        for (int dexNumber : dexNumbers) {
+            header.putInt(dexNumber);
+        }
+        for (long fingerprint : fingerprints) {
+            header.putLong(fingerprint);
+        }
+        ByteBuffer cells = ByteBuffer.allocate(matrix.length * 2);
+        cells.asCharBuffer().put(matrix);
+
+        Path temporary = output.resolveSibling(output.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temporary)) {
+            out.write(header.array());
+            out.write(cells.array());
+        }
+        Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static long fingerprint(Species species) {
+        long hash = hash(0xCBF29CE484222325L, species.getName());
+        hash = hash(hash, species.getType1() == null ? "" : species.getType1().getName());
+        hash = hash(hash, species.getType2() == null ? "" : species.getType2().getName());
+        for (int stat = 0; stat < SpreadGenerator.STATS; stat++) {
+            hash = hash(hash, species.getBaseStat(stat));
+        }
+        for (int i = 0; i < Species.MOVES; i++) {
+            Move move = species.getMove(i);
+            if (move == null) {
+                hash = hash(hash, -1);
+                continue;
+            }
+            hash = hash(hash, move.getName());
+            hash = hash(hash, move.getType().getName());
+            hash = hash(hash, move.getCategory().ordinal());
+            hash = hash(hash, move.getPower());
+            hash = hash(hash, move.getAccuracy());
+            hash = hash(hash, move.getPp());
+            hash = hash(hash, move.getPriority());
+        }
+        return mix(hash);
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return (hash ^ 0xFF) * 0x100000001B3L;
+    }
+
+    private static long hash(long hash, int value) {
+        return (hash ^ value) * 0x100000001B3L;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    public static final class Report {
+
+        private final int species;
+        private final long reused;
+        private final long computed;
+        private final long pending;
+        private final long nanos;
+
+        private Report(int species, long reused, long computed, long pending, long nanos) {
+            this.species = species;
+            this.reused = reused;
+            this.computed = computed;
+            this.pending = pending;
+            this.nanos = nanos;
+        }
+
+        public int getSpecies() {
+            return species;
+        }
+
+        public long getReused() {
+            return reused;
+        }
+
+        public long getComputed() {
+            return computed;
+        }
+
+        public long getPending() {
+            return pending;
+        }
+
+        public boolean isComplete() {
+            return pending == 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Especies: %d | Pares reutilizados: %d | Calculados: %d | Pendientes: %d | %.1f s",
+                    species, reused, computed, pending, nanos / 1e9);
+        }
+    }
+
+    public static void main(String[] args) {
+        try {
+            int battles = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BATTLES;
+            Duration budget = args.length > 1 ? Duration.ofSeconds(Long.parseLong(args[1])) : Duration.ofDays(1);
+            long seed = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+            Path output = Path.of(args.length > 3 ? args[3] : WinRateMatrix.DEFAULT_FILE);
+
+            Dex pokedex = DexLoader.loadDex();
+            WinRateMatrix previous;
+            try {
+                previous = WinRateMatrix.open(output);
+            } catch (NoSuchFileException e) {
+                previous = null;
+            }
+            WinRateMatrixJob job = new WinRateMatrixJob(pokedex, battles, seed);
+            Report report = job.run(previous, output, budget);
+            System.out.println(report);
+            if (!report.isComplete()) {
+                System.out.println("Tiempo agotado: los pares pendientes se calcularán en la próxima ejecución.");
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -1,50 +1,40 @@
 package utils;
 
-import java.io.FileWriter;
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 public class DataLoader {
 
-    private static final String POKE_API_BASE_URL = "https://pokeapi.co/api/v2/";
-    private static final String POKEMON_SPECIES_ENDPOINT = POKE_API_BASE_URL + "pokemon-species?limit=10000";
-    private static final String MOVES_ENDPOINT = POKE_API_BASE_URL + "move?limit=10000";
-    private static final String TYPES_ENDPOINT = POKE_API_BASE_URL + "type";
+    private static final String POKEMON_SPECIES_ENDPOINT = "pokemon-species?limit=10000";
+    private static final String MOVES_ENDPOINT = "move?limit=10000";
+    private static final String TYPES_ENDPOINT = "type";
     private static final String OUTPUT_FILE = "data/base.json";
 
     public static void main(String[] args) {
-        try {
-
-            final HttpClient client = HttpClient.newHttpClient();
-            final Gson gson = new GsonBuilder().setPrettyPrinting().create();
-
-            Map<String, Object> result = new HashMap<>();
+        try (PokeApiClient client = new PokeApiClient()) {
 
             System.out.println("Obteniendo Pokémon...");
             List<String> pokemonList = fetchDefaultPokemon(client);
-            result.put("pokemon", pokemonList);
 
             System.out.println("Obteniendo movimientos de ataque...");
             List<String> attackMoves = fetchAttackMoves(client);
-            result.put("moves", attackMoves);
 
             System.out.println("Obteniendo tipos...");
             List<String> types = fetchTypes(client);
-            result.put("types", types);
 
-            saveToJsonFile(result, gson, OUTPUT_FILE);
+            JsonOutput.write(Path.of(OUTPUT_FILE), writer -> {
+                writer.beginObject();
+                writeNames(writer, "types", types);
+                writeNames(writer, "pokemon", pokemonList);
+                writeNames(writer, "moves", attackMoves);
+                writer.endObject();
+            });
             System.out.println("JSON generado correctamente: " + OUTPUT_FILE);
 
         } catch (Exception e) {
@@ -52,50 +42,56 @@ public class DataLoader {
         }
     }
 
-    private static List<String> fetchDefaultPokemon(HttpClient client) throws IOException, InterruptedException {
-        List<String> pokemonList = new ArrayList<>();
-
-        HttpRequest request = HttpRequest.newBuilder().uri(URI.create(POKEMON_SPECIES_ENDPOINT)).build();
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-        JsonObject jsonResponse = new Gson().fromJson(response.body(), JsonObject.class);
-        JsonArray speciesArray = jsonResponse.getAsJsonArray("results");
+    private static List<String> fetchDefaultPokemon(PokeApiClient client) throws IOException, InterruptedException {
+        JsonArray speciesArray = fetchJsonObject(client, POKEMON_SPECIES_ENDPOINT).getAsJsonArray("results");
 
-        for (var species : speciesArray) {
-            String speciesUrl = species.getAsJsonObject().get("url").getAsString();
+        List<String> names = client.fetchAll(urlsOf(speciesArray), speciesUrl -> {
             JsonObject speciesDetails = fetchJsonObject(client, speciesUrl);
 
             JsonArray varieties = speciesDetails.getAsJsonArray("varieties");
-            String basePokemonName = varieties.get(0).getAsJsonObject()
+            return varieties.get(0).getAsJsonObject()
                     .get("pokemon")
                     .getAsJsonObject()
                     .get("name")
                     .getAsString();
-            pokemonList.add(basePokemonName);
-        }
-        return pokemonList;
+        });
+        return new ArrayList<>(names);
     }
 
-    private static List<String> fetchAttackMoves(HttpClient client) throws IOException, InterruptedException {
-        List<String> attackMoves = new ArrayList<>();
-        JsonObject movesData = fetchJsonObject(client, MOVES_ENDPOINT);
-        JsonArray movesArray = movesData.getAsJsonArray("results");
+    private static List<String> fetchAttackMoves(PokeApiClient client) throws IOException, InterruptedException {
+        JsonArray movesArray = fetchJsonObject(client, MOVES_ENDPOINT).getAsJsonArray("results");
 
-        for (var move : movesArray) {
-            String moveUrl = move.getAsJsonObject().get("url").getAsString();
+        List<String> candidates = client.fetchAll(urlsOf(movesArray), moveUrl -> {
             JsonObject moveDetails = fetchJsonObject(client, moveUrl);
 
             JsonObject damageClass = moveDetails.getAsJsonObject("damage_class");
             if (damageClass != null) {
                 String damageClassName = damageClass.get("name").getAsString();
                 if ("physical".equals(damageClassName) || "special".equals(damageClassName)) {
-                    attackMoves.add(moveDetails.get("name").getAsString());
+                    return moveDetails.get("name").getAsString();
                 }
             }
+            return null;
+        });
+
+        List<String> attackMoves = new ArrayList<>();
+        for (String move : candidates) {
+            if (move != null) {
+                attackMoves.add(move);
+            }
         }
         return attackMoves;
     }
 
-    private static List<String> fetchTypes(HttpClient client) throws IOException, InterruptedException {
+    private static List<String> urlsOf(JsonArray results) {
+        List<String> urls = new ArrayList<>(results.size());
+        for (var result : results) {
+            urls.add(result.getAsJsonObject().get("url").getAsString());
+        }
+        return urls;
+    }
+
+    private static List<String> fetchTypes(PokeApiClient client) throws IOException, InterruptedException {
         List<String> types = new ArrayList<>();
         JsonObject typesData = fetchJsonObject(client, TYPES_ENDPOINT);
         JsonArray typesArray = typesData.getAsJsonArray("results");
@@ -106,17 +102,19 @@ public class DataLoader {
         return types;
     }
 
-    private static void saveToJsonFile(Map<String, Object> data, Gson gson, String fileName) {
-        try (FileWriter writer = new FileWriter(fileName)) {
-            gson.toJson(data, writer);
-        } catch (IOException e) {
-            System.err.println("Error al guardar el archivo JSON: " + e.getMessage());
+    private static void writeNames(JsonWriter writer, String name, List<String> values) throws IOException {
+        writer.name(name).beginArray();
+        for (String value : values) {
+            writer.value(value);
         }
+        writer.endArray();
     }
 
-    private static JsonObject fetchJsonObject(HttpClient client, String url) throws IOException, InterruptedException {
-        HttpRequest request = HttpRequest.newBuilder().uri(URI.create(url)).build();
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-        return new Gson().fromJson(response.body(), JsonObject.class);
+    private static JsonObject fetchJsonObject(PokeApiClient client, String url) throws IOException, InterruptedException {
+        JsonObject json = client.fetchJson(url);
+        if (json == null) {
+            throw new IOException("Recurso no encontrado: " + client.resolve(url));
+        }
+        return json;
     }
 }
@@ -0,0 +1,307 @@
+package utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import model.ATK;
+import model.Dex;
+import model.DexSnapshot;
+import model.Move;
+import model.MoveCategory;
+import model.MoveRegistry;
+import model.PKMN;
+import model.Species;
+import model.Type;
+
+public class DexLoader {
+
+    public static final String DATA_FOLDER = "data";
+    public static final String TYPES_JSON_FILE = "types.json";
+    public static final String MOVES_JSON_FILE = "moves.json";
+    public static final String POKEMON_JSON_FILE = "pokemon.json";
+    public static final String SNAPSHOT_FILE = "dex.bin";
+    public static final String NO_TYPE = "Nulo";
+
+    private final Map<String, Type> types = new LinkedHashMap<>();
+    private final Map<String, Move> moves = new LinkedHashMap<>();
+    private final Dex dex = new Dex();
+    private MoveRegistry moveRegistry;
+
+    private DexLoader() {
+    }
+
+    public static DexLoader load() throws IOException {
+        return load(Path.of(DATA_FOLDER));
+    }
+
+    public static Dex loadDex() throws IOException {
+        return loadDex(Path.of(DATA_FOLDER));
+    }
+
+    public static Dex loadDex(Path dataFolder) throws IOException {
+        Path snapshot = dataFolder.resolve(SNAPSHOT_FILE);
+        if (isSnapshotFresh(snapshot, dataFolder)) {
+            try {
+                return new Dex(DexSnapshot.open(snapshot));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Pokédex compilada ignorada: " + e.getMessage());
+            }
+        }
+        return load(dataFolder).getDex();
+    }
+
+    private static boolean isSnapshotFresh(Path snapshot, Path dataFolder) throws IOException {
+        if (!Files.exists(snapshot)) {
+            return false;
+        }
+        FileTime compiled = Files.getLastModifiedTime(snapshot);
+        for (String source : new String[]{TYPES_JSON_FILE, MOVES_JSON_FILE, POKEMON_JSON_FILE}) {
+            Path file = dataFolder.resolve(source);
+            if (Files.exists(file) && Files.getLastModifiedTime(file).compareTo(compiled) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static DexLoader load(Path dataFolder) throws IOException {
+        DexLoader loader = new DexLoader();
+        try (JsonReader reader = open(dataFolder.resolve(TYPES_JSON_FILE))) {
+            loader.readTypes(reader);
+        }
+        try (JsonReader reader = open(dataFolder.resolve(MOVES_JSON_FILE))) {
+            loader.readMoves(reader);
+        }
+        try (JsonReader reader = open(dataFolder.resolve(POKEMON_JSON_FILE))) {
+            loader.readPokemon(reader);
+        }
+        return loader;
+    }
+
+    public Dex getDex() {
+        return dex;
+    }
+
+    public Type getType(String slug) {
+        return types.get(slug);
+    }
+
+    public Map<String, Type> getTypes() {
+        return types;
+    }
+
+    public Move getMove(String slug) {
+        return moveRegistry.getMove(slug);
+    }
+
+    public MoveRegistry getMoveRegistry() {
+        return moveRegistry;
+    }
+
+    public Map<String, Move> getMoves() {
+        return moves;
+    }
+
+    private static JsonReader open(Path file) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        return new JsonReader(reader);
+    }
+
+    private void readTypes(JsonReader reader) throws IOException {
+        Map<String, String> names = new HashMap<>();
+        List<String[]> relations = new ArrayList<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String slug = reader.nextName();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "name" ->
+                        names.put(slug, reader.nextString());
+                    case "damage_relations" ->
+                        readDamageRelations(reader, slug, relations);
+                    default ->
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            types.put(slug, Type.of(names.getOrDefault(slug, slug)));
+        }
+        reader.endObject();
+
+        for (String[] relation : relations) {
+            Type attacker = types.get(relation[0]);
+            Type defender = types.get(relation[1]);
+            if (defender != null) {
+                attacker.addEffectiveness(defender, Double.parseDouble(relation[2]));
+            }
+        }
+    }
+
+    private static void readDamageRelations(JsonReader reader, String slug, List<String[]> relations)
+            throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String multiplier = switch (reader.nextName()) {
+                case "double_damage_to" ->
+                    "2.0";
+                case "half_damage_to" ->
+                    "0.5";
+                case "no_damage_to" ->
+                    "0.0";
+                default ->
+                    null;
+            };
+            if (multiplier == null) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginArray();
+            while (reader.hasNext()) {
+                relations.add(new String[]{slug, reader.nextString(), multiplier});
+            }
+            reader.endArray();
+        }
+        reader.endObject();
+    }
+
+    private void readMoves(JsonReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String slug = reader.nextName();
+            String name = slug;
+            String type = null;
+            String damageClass = null;
+            int accuracy = 0;
+            int power = 0;
+            int pp = 0;
+            int priority = 0;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "accuracy" ->
+                        accuracy = nextInt(reader);
+                    case "power" ->
+                        power = nextInt(reader);
+                    case "pp" ->
+                        pp = nextInt(reader);
+                    case "priority" ->
+                        priority = nextInt(reader);
+                    case "type" ->
+                        type = reader.nextString();
+                    case "name" ->
+                        name = reader.nextString();
+                    case "damage_class" ->
+                        damageClass = reader.nextString();
+                    default ->
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            MoveCategory category = damageClass == null ? MoveCategory.STATUS : MoveCategory.fromDamageClass(damageClass);
+            moves.put(slug, new ATK(moves.size(), name, resolveType(type), category, priority, pp, power, accuracy));
+        }
+        reader.endObject();
+        moveRegistry = new MoveRegistry(new ArrayList<>(moves.keySet()), new ArrayList<>(moves.values()));
+    }
+
+    private void readPokemon(JsonReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            reader.nextName();
+            int id = 0;
+            String name = null;
+            List<String> typeSlugs = new ArrayList<>(2);
+            List<String> moveSlugs = new ArrayList<>(4);
+            int[] stats = new int[6];
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id" ->
+                        id = nextInt(reader);
+                    case "name" ->
+                        name = reader.nextString();
+                    case "types" ->
+                        readStrings(reader, typeSlugs);
+                    case "moves" ->
+                        readStrings(reader, moveSlugs);
+                    case "base_stats" ->
+                        readBaseStats(reader, stats);
+                    default ->
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            Type type1 = typeSlugs.isEmpty() ? Type.of(NO_TYPE) : resolveType(typeSlugs.get(0));
+            Type type2 = typeSlugs.size() < 2 ? Type.of(NO_TYPE) : resolveType(typeSlugs.get(1));
+            Move[] moveset = new Move[Species.MOVES];
+            for (int i = 0; i < moveSlugs.size() && i < moveset.length; i++) {
+                moveset[i] = moveRegistry.getMove(moveSlugs.get(i));
+            }
+            dex.addPKMN(id, new PKMN(new Species(name, type1, type2, stats, moveset)));
+        }
+        reader.endObject();
+    }
+
+    private static void readBaseStats(JsonReader reader, int[] stats) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int index = switch (reader.nextName()) {
+                case "hp" ->
+                    0;
+                case "attack" ->
+                    1;
+                case "defense" ->
+                    2;
+                case "special-attack" ->
+                    3;
+                case "special-defense" ->
+                    4;
+                case "speed" ->
+                    5;
+                default ->
+                    -1;
+            };
+            if (index < 0) {
+                reader.skipValue();
+            } else {
+                stats[index] = nextInt(reader);
+            }
+        }
+        reader.endObject();
+    }
+
+    private static void readStrings(JsonReader reader, List<String> values) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            values.add(reader.nextString());
+        }
+        reader.endArray();
+    }
+
+    private static int nextInt(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return 0;
+        }
+        return reader.nextInt();
+    }
+
+    private Type resolveType(String slug) {
+        Type type = (slug == null) ? null : types.get(slug);
+        return (type != null) ? type : Type.of(NO_TYPE);
+    }
+}
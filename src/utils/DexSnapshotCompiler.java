@@ -0,0 +1,135 @@
+package utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import model.Dex;
+import model.DexSnapshot;
+import model.Move;
+import model.MoveRegistry;
+import model.PKMN;
+import model.Species;
+import model.Type;
+
+public class DexSnapshotCompiler {
+
+    public static final String OUTPUT_FILE = "data/dex.bin";
+
+    private final ByteArrayOutputStream strings = new ByteArrayOutputStream();
+    private final Map<String, Integer> stringOffsets = new HashMap<>();
+
+    public static void main(String[] args) {
+        try {
+            Path output = Path.of(args.length > 0 ? args[0] : OUTPUT_FILE);
+            long start = System.nanoTime();
+            DexLoader loader = DexLoader.load();
+            new DexSnapshotCompiler().compile(loader, output);
+            System.out.printf("Pokédex compilada en %s (%d bytes, %.1f ms)%n", output, Files.size(output),
+                    (System.nanoTime() - start) / 1e6);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    public void compile(DexLoader loader, Path output) throws IOException {
+        List<Type> types = new ArrayList<>();
+        for (Type type : loader.getTypes().values()) {
+            if (!types.contains(type)) {
+                types.add(type);
+            }
+        }
+        MoveRegistry moves = loader.getMoveRegistry();
+        Dex dex = loader.getDex();
+        Integer[] entrys = dex.getEntrys();
+        int maxDexNumber = entrys.length == 0 ? 0 : entrys[entrys.length - 1];
+
+        int typesOffset = DexSnapshot.HEADER_SIZE;
+        int chartOffset = typesOffset + types.size() * DexSnapshot.TYPE_RECORD_SIZE;
+        int movesOffset = align(chartOffset + types.size() * types.size());
+        int speciesOffset = movesOffset + moves.size() * DexSnapshot.MOVE_RECORD_SIZE;
+        int indexOffset = speciesOffset + entrys.length * DexSnapshot.SPECIES_RECORD_SIZE;
+        int stringsOffset = indexOffset + (maxDexNumber + 1) * 4;
+
+        ByteBuffer buffer = ByteBuffer.allocate(stringsOffset);
+        buffer.putInt(DexSnapshot.MAGIC).putInt(DexSnapshot.VERSION).putInt(types.size()).putInt(moves.size())
+                .putInt(entrys.length).putInt(maxDexNumber).putInt(typesOffset).putInt(chartOffset)
+                .putInt(movesOffset).putInt(speciesOffset).putInt(indexOffset).putInt(stringsOffset);
+
+        for (int i = 0; i < types.size(); i++) {
+            buffer.putInt(typesOffset + i * DexSnapshot.TYPE_RECORD_SIZE, intern(types.get(i).getName()));
+            for (int j = 0; j < types.size(); j++) {
+                double effectiveness = types.get(i).getEffectiveness(types.get(j));
+                buffer.put(chartOffset + i * types.size() + j, (byte) Math.round(effectiveness * 4));
+            }
+        }
+
+        for (int i = 0; i < moves.size(); i++) {
+            Move move = moves.getMove(i);
+            int base = movesOffset + i * DexSnapshot.MOVE_RECORD_SIZE;
+            buffer.putInt(base, intern(move.getName()));
+            buffer.put(base + 4, (byte) types.indexOf(move.getType()));
+            buffer.put(base + 5, (byte) move.getCategory().ordinal());
+            buffer.put(base + 6, (byte) move.getPriority());
+            buffer.put(base + 7, (byte) move.getPp());
+            buffer.putShort(base + 8, (short) move.getPower());
+            buffer.putShort(base + 10, (short) move.getAccuracy());
+        }
+
+        int[] index = new int[maxDexNumber + 1];
+        Arrays.fill(index, DexSnapshot.NO_ENTRY);
+        for (int record = 0; record < entrys.length; record++) {
+            PKMN pokemon = dex.getPKMN(entrys[record]);
+            int base = speciesOffset + record * DexSnapshot.SPECIES_RECORD_SIZE;
+            buffer.putInt(base, entrys[record]);
+            buffer.putInt(base + 4, intern(pokemon.getName()));
+            buffer.put(base + 8, (byte) types.indexOf(pokemon.getType1()));
+            buffer.put(base + 9, (byte) types.indexOf(pokemon.getType2()));
+            int[] baseStats = pokemon.getBaseStats();
+            for (int i = 0; i < baseStats.length; i++) {
+                buffer.putShort(base + 10 + i * 2, (short) baseStats[i]);
+            }
+            for (int i = 0; i < Species.MOVES; i++) {
+                buffer.putShort(base + 22 + i * 2, (short) pokemon.getSpecies().getMoveId(i));
+            }
+            index[entrys[record]] = record;
+        }
+        for (int i = 0; i < index.length; i++) {
+            buffer.putInt(indexOffset + i * 4, index[i]);
+        }
+
+        Path temporary = output.resolveSibling(output.getFileName() + ".tmp");
+        try (var out = Files.newOutputStream(temporary)) {
+            out.write(buffer.array());
+            strings.writeTo(out);
+        }
+        Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private int intern(String value) {
+        Integer offset = stringOffsets.get(value);
+        if (offset != null) {
+            return offset;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        offset = strings.size();
+        strings.write(bytes.length >> 8);
+        strings.write(bytes.length);
+        strings.write(bytes, 0, bytes.length);
+        stringOffsets.put(value, offset);
+        return offset;
+    }
+
+    private static int align(int offset) {
+        return (offset + 3) & ~3;
+    }
+}
@@ -0,0 +1,166 @@
+package utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Properties;
+
+public class HttpCache {
+
+    public static final String DEFAULT_DIRECTORY = "cache/http";
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofDays(1);
+
+    private static final String OBJECTS = "objects";
+    private static final String INDEX = "index";
+
+    private final Path objects;
+    private final Path index;
+    private final long maxAgeMillis;
+
+    public HttpCache(Path directory, Duration maxAge) throws IOException {
+        this.objects = Files.createDirectories(directory.resolve(OBJECTS));
+        this.index = Files.createDirectories(directory.resolve(INDEX));
+        this.maxAgeMillis = maxAge.toMillis();
+    }
+
+    public Entry lookup(String url) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(indexPath(url))) {
+            properties.load(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        Entry entry = new Entry(url, properties.getProperty("hash"), properties.getProperty("etag"),
+                properties.getProperty("last-modified"), Long.parseLong(properties.getProperty("fetched", "0")));
+        if (!url.equals(properties.getProperty("url")) || entry.getHash() == null
+                || !Files.exists(objectPath(entry.getHash()))) {
+            return null;
+        }
+        return entry;
+    }
+
+    public boolean isFresh(Entry entry) {
+        return System.currentTimeMillis() - entry.getFetchedAt() < maxAgeMillis;
+    }
+
+    public byte[] read(Entry entry) throws IOException {
+        return Files.readAllBytes(objectPath(entry.getHash()));
+    }
+
+    public Entry store(String url, byte[] body, String etag, String lastModified) throws IOException {
+        String hash = digest(body);
+        Path object = objectPath(hash);
+        if (!Files.exists(object)) {
+            Files.createDirectories(object.getParent());
+            writeAtomically(object, body);
+        }
+        Entry entry = new Entry(url, hash, etag, lastModified, System.currentTimeMillis());
+        writeIndex(entry);
+        return entry;
+    }
+
+    public Entry touch(Entry entry) throws IOException {
+        Entry touched = new Entry(entry.getUrl(), entry.getHash(), entry.getEtag(), entry.getLastModified(),
+                System.currentTimeMillis());
+        writeIndex(touched);
+        return touched;
+    }
+
+    private void writeIndex(Entry entry) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("url", entry.getUrl());
+        properties.setProperty("hash", entry.getHash());
+        properties.setProperty("fetched", Long.toString(entry.getFetchedAt()));
+        if (entry.getEtag() != null) {
+            properties.setProperty("etag", entry.getEtag());
+        }
+        if (entry.getLastModified() != null) {
+            properties.setProperty("last-modified", entry.getLastModified());
+        }
+        Path target = indexPath(entry.getUrl());
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), null, ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, null);
+        }
+        move(temp, target);
+    }
+
+    private Path objectPath(String hash) {
+        return objects.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path indexPath(String url) {
+        String hash = digest(url.getBytes(StandardCharsets.UTF_8));
+        return index.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static void writeAtomically(Path target, byte[] data) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), null, ".tmp");
+        Files.write(temp, data);
+        move(temp, target);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String digest(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    public static final class Entry {
+
+        private final String url;
+        private final String hash;
+        private final String etag;
+        private final String lastModified;
+        private final long fetchedAt;
+
+        Entry(String url, String hash, String etag, String lastModified, long fetchedAt) {
+            this.url = url;
+            this.hash = hash;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.fetchedAt = fetchedAt;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public long getFetchedAt() {
+            return fetchedAt;
+        }
+    }
+}
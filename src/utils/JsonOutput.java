@@ -0,0 +1,69 @@
+package utils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+final class JsonOutput {
+
+    private static final Gson GSON = new Gson();
+    private static final String INDENT = "  ";
+
+    private JsonOutput() {
+    }
+
+    static boolean isCompact() {
+        return Boolean.getBoolean("pokeapi.compact");
+    }
+
+    static void write(Path target, Content content) throws IOException {
+        writeAtomically(target, out -> {
+            JsonWriter writer = new JsonWriter(out);
+            if (!isCompact()) {
+                writer.setIndent(INDENT);
+            }
+            content.writeTo(writer);
+            writer.flush();
+        });
+    }
+
+    static void writeValue(JsonWriter writer, JsonElement value) {
+        GSON.toJson(value, writer);
+    }
+
+    static void writeAtomically(Path target, RawContent content) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                content.writeTo(out);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @FunctionalInterface
+    interface Content {
+        void writeTo(JsonWriter writer) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface RawContent {
+        void writeTo(Writer out) throws IOException;
+    }
+}
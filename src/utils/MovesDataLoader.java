@@ -1,74 +1,91 @@
 package utils;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MovesDataLoader {
 
-    private static final String POKEAPI_URL = "https://pokeapi.co/api/v2/move/";
+    private static final String MOVE_ENDPOINT = "move/";
     private static final String INPUT_JSON_FILE = "data/base.json";
     private static final String OUTPUT_JSON_FILE = "data/moves.json";
 
     public static void main(String[] args) {
-        try {
-
-            final Gson gson = new GsonBuilder().setPrettyPrinting().create();
-
-            JsonArray inputMoves = readInputJson(INPUT_JSON_FILE);
-
-            JsonObject movesData = new JsonObject();
-
-            for (int i = 0; i < inputMoves.size(); i++) {
-                String moveName = inputMoves.get(i).getAsString();
-                JsonObject moveDetails = fetchMoveDetails(moveName);
-                if (moveDetails != null) {
-                    movesData.add(moveName, moveDetails);
-                    System.out.println("Movimiento procesado: " + moveName);
+        Path output = Path.of(OUTPUT_JSON_FILE);
+        try (PokeApiClient client = new PokeApiClient(); RefreshJournal journal = RefreshJournal.forOutput(output)) {
+
+            List<String> inputMoves = readInputJson(INPUT_JSON_FILE);
+
+            List<String> pending = journal.pending(inputMoves);
+            System.out.println("Movimientos pendientes: " + pending.size() + " de " + inputMoves.size());
+
+            AtomicInteger failures = new AtomicInteger();
+            client.fetchAll(pending, name -> {
+                try {
+                    JsonObject details = fetchMoveDetails(client, name);
+                    if (details != null) {
+                        journal.record(name, details);
+                        System.out.println("Movimiento procesado: " + name);
+                    } else {
+                        failures.incrementAndGet();
+                    }
+                } catch (IOException e) {
+                    failures.incrementAndGet();
+                    System.err.println("Error al obtener detalles para el movimiento " + name + ": " + e.getMessage());
                 }
+                return null;
+            });
+
+            if (failures.get() > 0) {
+                throw new IOException(failures.get() + " entradas sin descargar");
             }
 
-            saveToJsonFile(movesData, gson, OUTPUT_JSON_FILE);
+            journal.commit(output, inputMoves);
             System.out.println("Datos de movimientos guardados en " + OUTPUT_JSON_FILE);
 
-        } catch (Exception e) {
-            e.printStackTrace();
+        } catch (IOException | RuntimeException e) {
+            fail(e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail("actualización interrumpida");
         }
     }
 
-    private static JsonArray readInputJson(String fileName) throws IOException {
+    private static void fail(String reason) {
+        System.err.println("Error al actualizar " + OUTPUT_JSON_FILE + ": " + reason);
+        System.err.println("El progreso queda guardado en " + OUTPUT_JSON_FILE + RefreshJournal.SUFFIX
+                + "; vuelve a ejecutar para continuar.");
+        System.exit(1);
+    }
+
+    private static List<String> readInputJson(String fileName) throws IOException {
         try (FileReader reader = new FileReader(fileName)) {
             JsonObject json = new Gson().fromJson(reader, JsonObject.class);
-            return json.getAsJsonArray("moves");
+            JsonArray moves = json.getAsJsonArray("moves");
+            List<String> names = new ArrayList<>(moves.size());
+            for (int i = 0; i < moves.size(); i++) {
+                names.add(moves.get(i).getAsString());
+            }
+            return names;
         }
     }
 
-    private static JsonObject fetchMoveDetails(String moveName) throws IOException, InterruptedException {
-
-        String urlString = POKEAPI_URL + moveName;
+    private static JsonObject fetchMoveDetails(PokeApiClient client, String moveName)
+            throws IOException, InterruptedException {
 
-        HttpClient client = HttpClient.newHttpClient();
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(urlString))
-                .build();
+        JsonObject moveDetails = client.fetchJson(MOVE_ENDPOINT + moveName);
 
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() != 200) {
+        if (moveDetails == null) {
             System.out.println("Error al obtener detalles para el movimiento: " + moveName);
             return null;
         }
 
-        JsonObject moveDetails = new Gson().fromJson(response.body(), JsonObject.class);
-
         JsonObject detailedMove = new JsonObject();
         detailedMove.addProperty("accuracy", getIntValue(moveDetails, "accuracy"));
         detailedMove.addProperty("power", getIntValue(moveDetails, "power"));
@@ -106,12 +123,4 @@ public class MovesDataLoader {
         }
         return "Unknown";
     }
-
-    private static void saveToJsonFile(JsonObject data, Gson gson, String fileName) {
-        try (FileWriter writer = new FileWriter(fileName)) {
-            gson.toJson(data, writer);
-        } catch (IOException e) {
-            System.err.println("Error al guardar el archivo JSON: " + e.getMessage());
-        }
-    }
 }
@@ -0,0 +1,273 @@
+package utils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class PokeApiClient implements AutoCloseable {
+
+    public static final String DEFAULT_BASE_URL = "https://pokeapi.co/api/v2/";
+    public static final int DEFAULT_PARALLELISM = 16;
+    public static final int DEFAULT_ATTEMPTS = 4;
+    public static final Duration DEFAULT_BACKOFF = Duration.ofMillis(250);
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final Gson GSON = new Gson();
+
+    private final HttpClient client;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final String baseUrl;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final HttpCache cache;
+    private final boolean offline;
+
+    public PokeApiClient() throws IOException {
+        this(System.getProperty("pokeapi.url", DEFAULT_BASE_URL),
+                Integer.getInteger("pokeapi.parallelism", DEFAULT_PARALLELISM),
+                DEFAULT_ATTEMPTS, DEFAULT_BACKOFF, defaultCache(), Boolean.getBoolean("pokeapi.offline"));
+    }
+
+    public PokeApiClient(String baseUrl, int parallelism, int maxAttempts, Duration backoff) {
+        this(baseUrl, parallelism, maxAttempts, backoff, null, false);
+    }
+
+    public PokeApiClient(String baseUrl, int parallelism, int maxAttempts, Duration backoff,
+            HttpCache cache, boolean offline) {
+        if (parallelism < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("La concurrencia y los intentos deben ser positivos");
+        }
+        if (offline && cache == null) {
+            throw new IllegalArgumentException("El modo sin conexión necesita una caché");
+        }
+        this.cache = cache;
+        this.offline = offline;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.permits = new Semaphore(parallelism);
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoff.toMillis();
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    private static HttpCache defaultCache() throws IOException {
+        String directory = System.getProperty("pokeapi.cache", HttpCache.DEFAULT_DIRECTORY);
+        if (directory.isEmpty()) {
+            return null;
+        }
+        String maxAge = System.getProperty("pokeapi.cache.maxAge");
+        return new HttpCache(Path.of(directory), maxAge == null ? HttpCache.DEFAULT_MAX_AGE : Duration.parse(maxAge));
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    public String resolve(String url) {
+        if (url.startsWith(DEFAULT_BASE_URL)) {
+            return baseUrl + url.substring(DEFAULT_BASE_URL.length());
+        }
+        if (url.startsWith("http://") || url.startsWith("https://")) {
+            return url;
+        }
+        return baseUrl + url;
+    }
+
+    public JsonObject fetchJson(String url) throws IOException, InterruptedException {
+        byte[] body = get(url);
+        return body == null ? null : GSON.fromJson(new String(body, StandardCharsets.UTF_8), JsonObject.class);
+    }
+
+    public boolean download(String url, Path target) throws IOException, InterruptedException {
+        byte[] body = get(url);
+        if (body == null) {
+            return false;
+        }
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.write(temp, body);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return true;
+    }
+
+    public <R> R memoize(ConcurrentMap<String, CompletableFuture<R>> memo, String key, Task<String, R> loader)
+            throws IOException, InterruptedException {
+        CompletableFuture<R> pending = new CompletableFuture<>();
+        CompletableFuture<R> existing = memo.putIfAbsent(key, pending);
+        if (existing == null) {
+            try {
+                pending.complete(loader.apply(key));
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                memo.remove(key, pending);
+                pending.completeExceptionally(e);
+                throw e;
+            }
+            existing = pending;
+        }
+        try {
+            return existing.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    public <T, R> List<R> fetchAll(List<T> items, Task<T, R> task) throws IOException, InterruptedException {
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executor.submit(() -> task.apply(item)));
+        }
+        List<R> results = new ArrayList<>(items.size());
+        try {
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        return results;
+    }
+
+    private byte[] get(String url) throws IOException, InterruptedException {
+        String resolved = resolve(url);
+        HttpCache.Entry cached = cache == null ? null : cache.lookup(resolved);
+        if (cached != null && (offline || cache.isFresh(cached))) {
+            return cache.read(cached);
+        }
+        if (offline) {
+            throw new IOException("Sin conexión y sin copia en caché: " + resolved);
+        }
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(resolved)).timeout(TIMEOUT);
+        if (cached != null && cached.getEtag() != null) {
+            request.header("If-None-Match", cached.getEtag());
+        }
+        if (cached != null && cached.getLastModified() != null) {
+            request.header("If-Modified-Since", cached.getLastModified());
+        }
+        HttpResponse<byte[]> response = send(request.build());
+        if (response == null) {
+            return null;
+        }
+        if (response.statusCode() == 304 && cached != null) {
+            cache.touch(cached);
+            return cache.read(cached);
+        }
+        if (cache != null) {
+            cache.store(resolved, response.body(), response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null));
+        }
+        return response.body();
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            HttpResponse<byte[]> response;
+            permits.acquire();
+            try {
+                response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                response = null;
+            } finally {
+                permits.release();
+            }
+
+            if (response == null) {
+                backoff(attempt, null);
+                continue;
+            }
+            int status = response.statusCode();
+            if (status == 200 || status == 304) {
+                return response;
+            }
+            if (status == 404) {
+                return null;
+            }
+            if ((status == 429 || status >= 500) && attempt < maxAttempts) {
+                backoff(attempt, response);
+                continue;
+            }
+            throw new IOException("Respuesta " + status + " al obtener " + request.uri());
+        }
+    }
+
+    private void backoff(int attempt, HttpResponse<?> response) throws InterruptedException {
+        long delay = backoffMillis << Math.min(attempt - 1, 16);
+        if (response != null) {
+            long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(-1);
+            if (retryAfter >= 0) {
+                delay = Math.max(delay, retryAfter * 1000);
+            }
+        }
+        Thread.sleep(delay + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+    }
+
+    private static IOException unwrap(ExecutionException e) throws InterruptedException {
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException io) {
+            return io;
+        }
+        if (cause instanceof InterruptedException interrupted) {
+            throw interrupted;
+        }
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException(cause);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        client.close();
+    }
+
+    @FunctionalInterface
+    public interface Task<T, R> {
+        R apply(T item) throws IOException, InterruptedException;
+    }
+}
@@ -1,79 +1,124 @@
 package utils;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class PokemonDataLoader {
 
-    private static final String POKEAPI_URL = "https://pokeapi.co/api/v2/pokemon/";
+    private static final String POKEMON_ENDPOINT = "pokemon/";
     private static final String SPRITE_FOLDER = "sprites/pokemon/";
     private static final String INPUT_JSON_FILE = "data/base.json";
     private static final String OUTPUT_JSON_FILE = "data/pokemon.json";
+    private static final String MOVES_JSON_FILE = "data/moves.json";
 
-    public static void main(String[] args) {
-        try {
+    private static final ConcurrentMap<String, CompletableFuture<Boolean>> ATTACK_MOVES = new ConcurrentHashMap<>();
 
-            final Gson gson = new GsonBuilder().setPrettyPrinting().create();
-
-            JsonArray inputPokemon = readInputJson(INPUT_JSON_FILE);
+    public static void main(String[] args) {
+        Path output = Path.of(OUTPUT_JSON_FILE);
+        try (PokeApiClient client = new PokeApiClient(); RefreshJournal journal = RefreshJournal.forOutput(output)) {
 
-            JsonObject pokemonData = new JsonObject();
+            JsonObject input = readInputJson(INPUT_JSON_FILE);
+            List<String> inputPokemon = toList(input.getAsJsonArray("pokemon"));
+            seedAttackMoves(Path.of(MOVES_JSON_FILE));
 
             createSpriteFolder();
 
-            for (int i = 0; i < inputPokemon.size(); i++) {
-                String pokemonName = inputPokemon.get(i).getAsString();
-                JsonObject pokemonDetails = fetchPokemonDetails(pokemonName);
-                if (pokemonDetails != null) {
-                    pokemonData.add(pokemonName, pokemonDetails);
-                    System.out.println("Pokémon procesado: " + pokemonName);
+            List<String> pending = journal.pending(inputPokemon);
+            System.out.println("Pokémon pendientes: " + pending.size() + " de " + inputPokemon.size());
+
+            AtomicInteger failures = new AtomicInteger();
+            client.fetchAll(pending, name -> {
+                try {
+                    JsonObject details = fetchPokemonDetails(client, name);
+                    if (details != null) {
+                        journal.record(name, details);
+                        System.out.println("Pokémon procesado: " + name);
+                    } else {
+                        failures.incrementAndGet();
+                    }
+                } catch (IOException e) {
+                    failures.incrementAndGet();
+                    System.err.println("Error al obtener detalles para el Pokémon " + name + ": " + e.getMessage());
                 }
+                return null;
+            });
+
+            if (failures.get() > 0) {
+                throw new IOException(failures.get() + " entradas sin descargar");
             }
 
-            saveToJsonFile(pokemonData, gson, OUTPUT_JSON_FILE);
+            journal.commit(output, inputPokemon);
             System.out.println("Datos de Pokémon guardados en " + OUTPUT_JSON_FILE);
 
-        } catch (Exception e) {
-            e.printStackTrace();
+        } catch (IOException | RuntimeException e) {
+            fail(e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail("actualización interrumpida");
         }
     }
 
-    private static JsonArray readInputJson(String fileName) throws IOException {
+    private static void fail(String reason) {
+        System.err.println("Error al actualizar " + OUTPUT_JSON_FILE + ": " + reason);
+        System.err.println("El progreso queda guardado en " + OUTPUT_JSON_FILE + RefreshJournal.SUFFIX
+                + "; vuelve a ejecutar para continuar.");
+        System.exit(1);
+    }
+
+    private static JsonObject readInputJson(String fileName) throws IOException {
         try (FileReader reader = new FileReader(fileName)) {
-            JsonObject json = new Gson().fromJson(reader, JsonObject.class);
-            return json.getAsJsonArray("pokemon");
+            return new Gson().fromJson(reader, JsonObject.class);
         }
     }
 
-    private static JsonObject fetchPokemonDetails(String pokemonName) throws IOException, InterruptedException {
-        String urlString = POKEAPI_URL + pokemonName;
+    private static List<String> toList(JsonArray array) {
+        List<String> values = new ArrayList<>(array.size());
+        for (int i = 0; i < array.size(); i++) {
+            values.add(array.get(i).getAsString());
+        }
+        return values;
+    }
 
-        HttpClient client = HttpClient.newHttpClient();
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(urlString))
-                .build();
+    private static void seedAttackMoves(Path movesFile) throws IOException {
+        if (!Files.exists(movesFile)) {
+            return;
+        }
+        JsonObject moves = readInputJson(movesFile.toString());
+        for (String moveName : moves.keySet()) {
+            JsonElement damageClass = moves.getAsJsonObject(moveName).get("damage_class");
+            if (damageClass != null && !damageClass.isJsonNull()) {
+                ATTACK_MOVES.put(moveName, CompletableFuture.completedFuture(isAttackClass(damageClass.getAsString())));
+            }
+        }
+    }
 
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    private static boolean isAttackClass(String damageClass) {
+        return "physical".equals(damageClass) || "special".equals(damageClass);
+    }
+
+    private static JsonObject fetchPokemonDetails(PokeApiClient client, String pokemonName)
+            throws IOException, InterruptedException {
+        JsonObject pokemonDetails = client.fetchJson(POKEMON_ENDPOINT + pokemonName);
 
-        if (response.statusCode() != 200) {
+        if (pokemonDetails == null) {
             System.out.println("Error al obtener detalles para el Pokémon: " + pokemonName);
             return null;
         }
 
-        JsonObject pokemonDetails = new Gson().fromJson(response.body(), JsonObject.class);
-
         JsonObject detailedPokemon = new JsonObject();
         detailedPokemon.addProperty("id", pokemonDetails.get("id").getAsInt());
 
@@ -110,42 +155,49 @@ public class PokemonDataLoader {
         int moveCount = 0;
         for (int i = 0; i < moves.size() && moveCount < 4; i++) {
             JsonObject moveObject = moves.get(i).getAsJsonObject();
-            String moveUrl = moveObject.getAsJsonObject("move").get("url").getAsString();
-            if (isAttackMove(moveUrl)) {
-                attackMoves.add(moveObject.getAsJsonObject("move").get("name").getAsString());
+            JsonObject move = moveObject.getAsJsonObject("move");
+            String moveName = move.get("name").getAsString();
+            if (isAttackMove(client, moveName, move.get("url").getAsString())) {
+                attackMoves.add(moveName);
                 moveCount++;
             }
         }
         detailedPokemon.add("moves", attackMoves);
 
-        String spriteUrl = pokemonDetails.getAsJsonObject("sprites").get("front_default").getAsString();
-        if (spriteUrl != null) {
-            String spritePath = downloadSprite(pokemonName, spriteUrl);
-            detailedPokemon.addProperty("sprite", spritePath);
+        JsonElement spriteUrl = pokemonDetails.getAsJsonObject("sprites").get("front_default");
+        if (spriteUrl != null && !spriteUrl.isJsonNull()) {
+            String spritePath = downloadSprite(client, pokemonName, spriteUrl.getAsString());
+            if (spritePath != null) {
+                detailedPokemon.addProperty("sprite", spritePath);
+            }
         }
 
         return detailedPokemon;
     }
 
-    private static boolean isAttackMove(String moveUrl) throws IOException, InterruptedException {
-        HttpClient client = HttpClient.newHttpClient();
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(moveUrl))
-                .build();
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-        JsonObject moveDetails = new Gson().fromJson(response.body(), JsonObject.class);
-        String damageClass = moveDetails.getAsJsonObject("damage_class").get("name").getAsString();
-        return "physical".equals(damageClass) || "special".equals(damageClass);
+    static boolean isAttackMove(PokeApiClient client, String moveName, String moveUrl)
+            throws IOException, InterruptedException {
+        return client.memoize(ATTACK_MOVES, moveName, key -> {
+            JsonObject moveDetails = client.fetchJson(moveUrl);
+            if (moveDetails == null || !moveDetails.has("damage_class") || moveDetails.get("damage_class").isJsonNull()) {
+                return false;
+            }
+            return isAttackClass(moveDetails.getAsJsonObject("damage_class").get("name").getAsString());
+        });
     }
 
-    private static String downloadSprite(String pokemonName, String spriteUrl) {
+    private static String downloadSprite(PokeApiClient client, String pokemonName, String spriteUrl)
+            throws InterruptedException {
+        String spritePath = SPRITE_FOLDER + pokemonName + ".png";
         try {
-            Path spritePath = Path.of(SPRITE_FOLDER + pokemonName + ".png");
-            return spritePath.toString();
-        } catch (Exception e) {
+            if (Files.exists(Path.of(spritePath)) || client.download(spriteUrl, Path.of(spritePath))) {
+                return spritePath;
+            }
+            System.err.println("Sprite no disponible para " + pokemonName);
+        } catch (IOException e) {
             System.err.println("Error al descargar el sprite para " + pokemonName + ": " + e.getMessage());
-            return null;
         }
+        return null;
     }
 
     private static void createSpriteFolder() {
@@ -161,12 +213,4 @@ public class PokemonDataLoader {
         }
         return text.substring(0, 1).toUpperCase() + text.substring(1);
     }
-
-    private static void saveToJsonFile(JsonObject data, Gson gson, String fileName) {
-        try (FileWriter writer = new FileWriter(fileName)) {
-            gson.toJson(data, writer);
-        } catch (IOException e) {
-            System.err.println("Error al guardar el archivo JSON: " + e.getMessage());
-        }
-    }
 }
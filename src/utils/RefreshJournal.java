@@ -0,0 +1,220 @@
+package utils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class RefreshJournal implements Closeable {
+
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofDays(7);
+    public static final String SUFFIX = ".journal";
+
+    private static final Gson GSON = new Gson();
+
+    private final Path path;
+    private final long maxAgeMillis;
+    private final Map<String, Mark> marks = new ConcurrentHashMap<>();
+    private FileChannel channel;
+
+    public RefreshJournal(Path path, Duration maxAge) throws IOException {
+        this.path = path;
+        this.maxAgeMillis = maxAge.toMillis();
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        load();
+    }
+
+    public static RefreshJournal forOutput(Path output) throws IOException {
+        String maxAge = System.getProperty("pokeapi.refresh.maxAge");
+        return new RefreshJournal(output.resolveSibling(output.getFileName() + SUFFIX),
+                maxAge == null ? DEFAULT_MAX_AGE : Duration.parse(maxAge));
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int size() {
+        return marks.size();
+    }
+
+    public boolean isFresh(String key) {
+        Mark mark = marks.get(key);
+        return mark != null && System.currentTimeMillis() - mark.fetchedAt < maxAgeMillis;
+    }
+
+    public List<String> pending(List<String> keys) {
+        List<String> pending = new ArrayList<>();
+        for (String key : keys) {
+            if (!isFresh(key)) {
+                pending.add(key);
+            }
+        }
+        return pending;
+    }
+
+    public synchronized JsonObject get(String key) throws IOException {
+        Mark mark = marks.get(key);
+        return mark == null ? null : parse(readLine(mark)).getAsJsonObject("value");
+    }
+
+    public synchronized void record(String key, JsonObject value) throws IOException {
+        long time = System.currentTimeMillis();
+        JsonObject line = new JsonObject();
+        line.addProperty("key", key);
+        line.addProperty("fetched", time);
+        line.add("value", value);
+        byte[] bytes = (GSON.toJson(line) + "\n").getBytes(StandardCharsets.UTF_8);
+        long offset = channel.size();
+        writeFully(channel, ByteBuffer.wrap(bytes), offset);
+        marks.put(key, new Mark(offset, bytes.length, time));
+    }
+
+    public synchronized void commit(Path output, List<String> keys) throws IOException {
+        JsonOutput.write(output, writer -> {
+            writer.beginObject();
+            for (String key : keys) {
+                Mark mark = marks.get(key);
+                if (mark != null) {
+                    writer.name(key);
+                    JsonOutput.writeValue(writer, parse(readLine(mark)).get("value"));
+                }
+            }
+            writer.endObject();
+        });
+        compact(keys);
+    }
+
+    private void compact(List<String> keys) throws IOException {
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        Map<String, Mark> compacted = new ConcurrentHashMap<>();
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long offset = 0;
+                for (String key : keys) {
+                    Mark mark = marks.get(key);
+                    if (mark != null && !compacted.containsKey(key)) {
+                        writeFully(out, ByteBuffer.wrap(readLine(mark)), offset);
+                        compacted.put(key, new Mark(offset, mark.length, mark.fetchedAt));
+                        offset += mark.length;
+                    }
+                }
+            }
+            channel.close();
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+            channel = open(path);
+        }
+        marks.clear();
+        marks.putAll(compacted);
+    }
+
+    private void load() throws IOException {
+        long offset = 0;
+        long valid = 0;
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            int b;
+            while ((b = in.read()) != -1) {
+                line.write(b);
+                if (b != '\n') {
+                    continue;
+                }
+                byte[] bytes = line.toByteArray();
+                line.reset();
+                JsonObject parsed = parseOrNull(bytes);
+                if (parsed != null && parsed.has("key") && parsed.has("value") && parsed.get("value").isJsonObject()) {
+                    long fetched = parsed.has("fetched") ? parsed.get("fetched").getAsLong() : 0L;
+                    marks.put(parsed.get("key").getAsString(), new Mark(offset, bytes.length, fetched));
+                }
+                offset += bytes.length;
+                valid = offset;
+            }
+        } catch (NoSuchFileException e) {
+            valid = 0;
+        }
+        channel = open(path);
+        if (channel.size() > valid) {
+            channel.truncate(valid);
+        }
+    }
+
+    private byte[] readLine(Mark mark) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(mark.length);
+        long position = mark.offset;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Diario truncado: " + path);
+            }
+            position += read;
+        }
+        return buffer.array();
+    }
+
+    private JsonObject parse(byte[] bytes) throws IOException {
+        JsonObject parsed = parseOrNull(bytes);
+        if (parsed == null) {
+            throw new IOException("Entrada de diario inválida: " + path);
+        }
+        return parsed;
+    }
+
+    private static JsonObject parseOrNull(byte[] bytes) {
+        try {
+            return GSON.fromJson(new String(bytes, StandardCharsets.UTF_8), JsonObject.class);
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private static final class Mark {
+
+        private final long offset;
+        private final int length;
+        private final long fetchedAt;
+
+        private Mark(long offset, int length, long fetchedAt) {
+            this.offset = offset;
+            this.length = length;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package utils;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import model.SpriteAtlas;
+
+public class SpriteAtlasCompiler {
+
+    private static final String POKEMON_JSON_FILE = "data/pokemon.json";
+    private static final String TYPES_JSON_FILE = "data/types.json";
+
+    public static void main(String[] args) {
+        try {
+            Path output = Path.of(args.length > 0 ? args[0] : SpriteAtlas.DEFAULT_FILE);
+            long start = System.nanoTime();
+            Set<String> sprites = new LinkedHashSet<>();
+            collectSprites(Path.of(TYPES_JSON_FILE), "sprite_path", sprites);
+            collectSprites(Path.of(POKEMON_JSON_FILE), "sprite", sprites);
+            int packed = compile(List.copyOf(sprites), output);
+            System.out.printf("Atlas de sprites generado en %s (%d de %d sprites, %d bytes, %.1f ms)%n", output, packed,
+                    sprites.size(), Files.size(output), (System.nanoTime() - start) / 1e6);
+        } catch (IOException e) {
+            System.err.println("Error al generar el atlas de sprites: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    public static int compile(List<String> sprites, Path output) throws IOException {
+        byte[][] contents = new byte[sprites.size()][];
+        int count = 0;
+        for (int i = 0; i < sprites.size(); i++) {
+            try {
+                contents[i] = Files.readAllBytes(Path.of(sprites.get(i)));
+                count++;
+            } catch (NoSuchFileException e) {
+                System.err.println("Sprite no encontrado: " + sprites.get(i));
+            }
+        }
+
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        int stringsOffset = SpriteAtlas.HEADER_SIZE + count * SpriteAtlas.RECORD_SIZE;
+        ByteBuffer header = ByteBuffer.allocate(stringsOffset);
+        header.putInt(SpriteAtlas.MAGIC).putInt(SpriteAtlas.VERSION).putInt(count).putInt(stringsOffset);
+        int[] keyOffsets = new int[sprites.size()];
+        for (int i = 0; i < sprites.size(); i++) {
+            if (contents[i] != null) {
+                byte[] key = sprites.get(i).getBytes(StandardCharsets.UTF_8);
+                keyOffsets[i] = strings.size();
+                strings.write(key.length >> 8);
+                strings.write(key.length);
+                strings.write(key, 0, key.length);
+            }
+        }
+
+        long offset = stringsOffset + strings.size();
+        for (int i = 0; i < sprites.size(); i++) {
+            if (contents[i] != null) {
+                if (offset + contents[i].length > Integer.MAX_VALUE) {
+                    throw new IOException("El atlas de sprites supera los 2 GB");
+                }
+                header.putInt(keyOffsets[i]).putInt((int) offset).putInt(contents[i].length);
+                offset += contents[i].length;
+            }
+        }
+
+        Path parent = output.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = output.resolveSibling(output.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temporary)) {
+            out.write(header.array());
+            strings.writeTo(out);
+            for (byte[] content : contents) {
+                if (content != null) {
+                    out.write(content);
+                }
+            }
+        }
+        Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+
+    private static void collectSprites(Path file, String field, Set<String> sprites) throws IOException {
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                reader.nextName();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (reader.nextName().equals(field) && reader.peek() == JsonToken.STRING) {
+                        sprites.add(SpriteAtlas.normalize(reader.nextString()));
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            }
+            reader.endObject();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package utils;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import model.Dex;
+import model.PKMN;
+
+public class TeamLibrary {
+
+    public static final String TEAMS_JSON_FILE = "data/teams.json";
+
+    private final Map<String, String[]> teams;
+
+    private TeamLibrary(Map<String, String[]> teams) {
+        this.teams = teams;
+    }
+
+    public static TeamLibrary load(String fileName) throws IOException {
+        try (FileReader reader = new FileReader(fileName)) {
+            JsonObject json = new Gson().fromJson(reader, JsonObject.class);
+            JsonObject teamsObject = json.getAsJsonObject("teams");
+            Map<String, String[]> teams = new LinkedHashMap<>();
+            for (String teamName : teamsObject.keySet()) {
+                JsonArray members = teamsObject.getAsJsonObject(teamName).getAsJsonArray("team");
+                String[] species = new String[members.size()];
+                for (int i = 0; i < species.length; i++) {
+                    species[i] = members.get(i).getAsString();
+                }
+                teams.put(teamName, species);
+            }
+            return new TeamLibrary(teams);
+        }
+    }
+
+    public String[] getTeamNames() {
+        return teams.keySet().toArray(String[]::new);
+    }
+
+    public String[] getSpecies(String teamName) {
+        String[] species = teams.get(teamName);
+        if (species == null) {
+            throw new IllegalArgumentException("Equipo no encontrado: " + teamName);
+        }
+        return species.clone();
+    }
+
+    public PKMN[] resolve(String teamName, Dex pokedex) {
+        String[] species = getSpecies(teamName);
+        PKMN[] members = new PKMN[species.length];
+        for (int i = 0; i < species.length; i++) {
+            members[i] = pokedex.findByName(species[i]);
+            if (members[i] == null) {
+                throw new IllegalArgumentException("Pokémon no encontrado en la Pokédex: " + species[i]);
+            }
+        }
+        return members;
+    }
+
+    public int size() {
+        return teams.size();
+    }
+}
@@ -1,40 +1,31 @@
 package utils;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 public class TypesDataLoader {
 
     private static final String INPUT_JSON_FILE = "data/base.json";
     private static final String OUTPUT_JSON_FILE = "data/types.json";
     private static final String SPRITES_FOLDER = "sprites/types";
-    private static final String TYPE_API_BASE_URL = "https://pokeapi.co/api/v2/type/";
+    private static final String TYPE_ENDPOINT = "type/";
     private static final String TYPE_SPRITES_BASE_URL = "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/types/generation-ix/scarlet-violet/";
 
     public static void main(String[] args) {
-        try {
-
-            final HttpClient client = HttpClient.newHttpClient();
-            final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try (PokeApiClient client = new PokeApiClient()) {
 
             System.out.println("Leyendo tipos desde " + INPUT_JSON_FILE + "...");
-            JsonArray types = readTypesFromJsonFile(gson, INPUT_JSON_FILE);
+            JsonArray types = readTypesFromJsonFile(INPUT_JSON_FILE);
 
             System.out.println("Obteniendo datos de tipos...");
-            JsonObject typesData = fetchTypesData(client, types);
-
-            saveToJsonFile(typesData, gson, OUTPUT_JSON_FILE);
+            writeTypesData(client, types, Path.of(OUTPUT_JSON_FILE));
             System.out.println("Datos de tipos guardados en " + OUTPUT_JSON_FILE);
 
             System.out.println("Descargando iconos de tipos...");
@@ -46,22 +37,22 @@ public class TypesDataLoader {
         }
     }
 
-    private static JsonArray readTypesFromJsonFile(Gson gson, String fileName) throws IOException {
+    private static JsonArray readTypesFromJsonFile(String fileName) throws IOException {
         try (var reader = new java.io.FileReader(fileName)) {
-            JsonObject data = gson.fromJson(reader, JsonObject.class);
+            JsonObject data = new Gson().fromJson(reader, JsonObject.class);
             return data.getAsJsonArray("types");
         }
     }
 
-    private static JsonObject fetchTypesData(HttpClient client, JsonArray types)
+    private static void writeTypesData(PokeApiClient client, JsonArray types, Path output)
             throws IOException, InterruptedException {
-        JsonObject typesData = new JsonObject();
-
-        for (int i = 0; i < types.size(); i++) {
-            String typeName = types.get(i).getAsString();
-            String typeUrl = TYPE_API_BASE_URL + typeName;
-
-            JsonObject typeData = fetchJsonObject(client, typeUrl);
+        List<String> typeNames = toList(types);
+        List<JsonObject> processed = client.fetchAll(typeNames, typeName -> {
+            JsonObject typeData = client.fetchJson(TYPE_ENDPOINT + typeName);
+            if (typeData == null) {
+                System.err.println("Error al obtener datos del tipo: " + typeName);
+                return null;
+            }
 
             JsonObject processedTypeData = new JsonObject();
             processedTypeData.addProperty("name", capitalizeFirstLetter(typeData.get("names").getAsJsonArray(), "es"));
@@ -70,11 +61,27 @@ public class TypesDataLoader {
 
             String spritePath = SPRITES_FOLDER + "/" + typeName + ".png";
             processedTypeData.addProperty("sprite_path", spritePath);
+            return processedTypeData;
+        });
+
+        JsonOutput.write(output, writer -> {
+            writer.beginObject();
+            for (int i = 0; i < typeNames.size(); i++) {
+                if (processed.get(i) != null) {
+                    writer.name(typeNames.get(i));
+                    JsonOutput.writeValue(writer, processed.get(i));
+                }
+            }
+            writer.endObject();
+        });
+    }
 
-            typesData.add(typeName, processedTypeData);
+    private static List<String> toList(JsonArray array) {
+        List<String> values = new ArrayList<>(array.size());
+        for (int i = 0; i < array.size(); i++) {
+            values.add(array.get(i).getAsString());
         }
-
-        return typesData;
+        return values;
     }
 
     private static JsonObject simplifyDamageRelations(JsonObject damageRelations) {
@@ -94,40 +101,25 @@ public class TypesDataLoader {
         return simplified;
     }
 
-    private static void saveToJsonFile(JsonObject data, Gson gson, String fileName) {
-        try (FileWriter writer = new FileWriter(fileName)) {
-            gson.toJson(data, writer);
-        } catch (IOException e) {
-            System.err.println("Error al guardar el archivo JSON: " + e.getMessage());
-        }
-    }
-
-    private static void downloadTypeIcons(HttpClient client, JsonArray types) throws IOException, InterruptedException {
-        File folder = new File(SPRITES_FOLDER);
-        if (!folder.exists()) {
-            folder.mkdir();
+    private static void downloadTypeIcons(PokeApiClient client, JsonArray types)
+            throws IOException, InterruptedException {
+        List<String> typeNames = toList(types);
+        List<Integer> numbers = new ArrayList<>(typeNames.size());
+        for (int i = 0; i < typeNames.size(); i++) {
+            numbers.add(i);
         }
 
-        for (int i = 0; i < types.size(); i++) {
-            String typeName = types.get(i).getAsString();
+        client.fetchAll(numbers, i -> {
             String spriteUrl = TYPE_SPRITES_BASE_URL + (i + 1) + ".png";
-            String spriteFileName = SPRITES_FOLDER + "/" + typeName + ".png";
-
-            downloadFile(client, spriteUrl, spriteFileName);
-            System.out.println("Icono descargado: " + spriteFileName);
-        }
-    }
-
-    private static void downloadFile(HttpClient client, String url, String outputPath)
-            throws IOException, InterruptedException {
-        HttpRequest request = HttpRequest.newBuilder().uri(URI.create(url)).build();
-        HttpResponse<java.nio.file.Path> response = client.send(request,
-                HttpResponse.BodyHandlers.ofFile(java.nio.file.Path.of(outputPath)));
+            String spriteFileName = SPRITES_FOLDER + "/" + typeNames.get(i) + ".png";
 
-        if (response.statusCode() != 200) {
-            System.err.println(
-                    "Error descargando el archivo desde: " + url + " - Código de estado: " + response.statusCode());
-        }
+            if (client.download(spriteUrl, Path.of(spriteFileName))) {
+                System.out.println("Icono descargado: " + spriteFileName);
+            } else {
+                System.err.println("Error descargando el archivo desde: " + spriteUrl);
+            }
+            return null;
+        });
     }
 
     private static String capitalizeFirstLetter(JsonArray names, String language) {
@@ -140,10 +132,4 @@ public class TypesDataLoader {
         }
         return null;
     }
-
-    private static JsonObject fetchJsonObject(HttpClient client, String url) throws IOException, InterruptedException {
-        HttpRequest request = HttpRequest.newBuilder().uri(URI.create(url)).build();
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-        return new Gson().fromJson(response.body(), JsonObject.class);
-    }
 }
@@ -0,0 +1,105 @@
+package engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+import model.Battle;
+import model.Dex;
+import model.Team;
+
+import org.junit.jupiter.api.Test;
+
+class BattleReplayTest {
+
+    private static final long SEED = 0x5EEDL;
+    private static final int[] TEAM1 = {1, 2, 3};
+    private static final int[] TEAM2 = {4, 5, 6};
+
+    private static Dex dex() {
+        Dex dex = new Dex();
+        dex.addPKMN(1, Battle.lucario);
+        dex.addPKMN(2, Battle.gengar);
+        dex.addPKMN(3, Battle.metagross);
+        dex.addPKMN(4, Battle.snorlax);
+        dex.addPKMN(5, Battle.dragonite);
+        dex.addPKMN(6, Battle.greninja);
+        return dex;
+    }
+
+    private static BattleEngine engine(Dex dex, BattleAgent agent1, BattleAgent agent2) {
+        SplittableRandom root = new SplittableRandom(SEED);
+        SplittableRandom teamRandom = root.split();
+        SplittableRandom battleRandom = root.split();
+        Team team1 = BattleReplay.buildTeam(dex, TEAM1, teamRandom);
+        Team team2 = BattleReplay.buildTeam(dex, TEAM2, teamRandom);
+        return new BattleEngine(team1, agent1, team2, agent2, battleRandom, BattleListener.NONE,
+                BattleEngine.DEFAULT_MAX_TURNS);
+    }
+
+    @Test
+    void replayReproducesRecordedBattle() {
+        Dex dex = dex();
+        DecisionLog log1 = new DecisionLog();
+        DecisionLog log2 = new DecisionLog();
+        BattleEngine original = engine(dex, new RecordingAgent(new RandomAgent(new SplittableRandom(1)), log1),
+                new RecordingAgent(new RandomAgent(new SplittableRandom(2)), log2));
+        BattleResult recorded = original.run();
+
+        BattleEngine replayed = engine(dex, new ReplayAgent(log1), new ReplayAgent(log2));
+        BattleResult result = replayed.run();
+
+        assertEquals(recorded.getWinner(), result.getWinner());
+        assertEquals(recorded.getTurns(), result.getTurns());
+        assertEquals(original.getState().hash(), replayed.getState().hash());
+    }
+
+    @Test
+    void serializedReplayMatchesOriginal() throws IOException {
+        Dex dex = dex();
+        BattleReplay replay = BattleReplay.record(dex, TEAM1, TEAM2, new RandomAgent(new SplittableRandom(3)),
+                new RandomAgent(new SplittableRandom(4)), SEED);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        replay.write(new DataOutputStream(bytes));
+        assertEquals(replay.sizeInBytes(), bytes.size());
+
+        BattleReplay copy = BattleReplay.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        BattleResult result = copy.replay(dex, BattleListener.NONE);
+
+        assertEquals(replay.getWinner(), result.getWinner());
+        assertEquals(replay.getTurns(), result.getTurns());
+    }
+
+    @Test
+    void decisionLogRoundTripsEveryNibble() {
+        DecisionLog log = new DecisionLog();
+        int count = 101;
+        for (int i = 0; i < count; i++) {
+            log.append(i % 16);
+        }
+        assertEquals(count, log.size());
+
+        DecisionLog copy = new DecisionLog(log.toByteArray(), log.size());
+        for (DecisionLog decisions : new DecisionLog[]{log, copy}) {
+            decisions.rewind();
+            for (int i = 0; i < count; i++) {
+                assertEquals(i % 16, decisions.next());
+            }
+            assertThrows(IllegalStateException.class, decisions::next);
+        }
+        assertEquals((count + 1) / 2, log.toByteArray().length);
+    }
+
+    @Test
+    void decisionLogRejectsValuesWiderThanFourBits() {
+        DecisionLog log = new DecisionLog();
+        assertThrows(IllegalArgumentException.class, () -> log.append(16));
+        assertThrows(IllegalArgumentException.class, () -> log.append(-1));
+    }
+}
@@ -0,0 +1,168 @@
+package utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PokeApiClientTest {
+
+    private static final Duration BACKOFF = Duration.ofMillis(40);
+
+    private HttpServer server;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath().substring(1);
+        int hit = hits.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+        peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+        try {
+            if (path.startsWith("slow/")) {
+                Thread.sleep(50);
+                respond(exchange, 200, "{\"name\":\"" + path + "\"}");
+            } else if (path.equals("flaky") && hit <= 2) {
+                respond(exchange, 503, "");
+            } else if (path.equals("limited") && hit == 1) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                respond(exchange, 429, "");
+            } else if (path.equals("broken")) {
+                respond(exchange, 500, "");
+            } else if (path.startsWith("move/")) {
+                String damageClass = path.endsWith("growl") ? "status" : "physical";
+                respond(exchange, 200, "{\"damage_class\":{\"name\":\"" + damageClass + "\"}}");
+            } else if (path.equals("missing")) {
+                respond(exchange, 404, "");
+            } else {
+                respond(exchange, 200, "{\"name\":\"" + path + "\"}");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private int hits(String path) {
+        AtomicInteger count = hits.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    @Test
+    void retriesServerErrorsWithExponentialBackoff() throws Exception {
+        try (PokeApiClient client = new PokeApiClient(baseUrl(), 4, 4, BACKOFF)) {
+            long start = System.nanoTime();
+            JsonObject body = client.fetchJson("flaky");
+            long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            assertEquals("flaky", body.get("name").getAsString());
+            assertEquals(3, hits("flaky"));
+            assertTrue(elapsed >= BACKOFF.toMillis() * 3, "Espera insuficiente entre reintentos: " + elapsed + " ms");
+        }
+    }
+
+    @Test
+    void honoursRetryAfterOnTooManyRequests() throws Exception {
+        try (PokeApiClient client = new PokeApiClient(baseUrl(), 4, 4, BACKOFF)) {
+            long start = System.nanoTime();
+            JsonObject body = client.fetchJson("limited");
+            long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            assertEquals("limited", body.get("name").getAsString());
+            assertEquals(2, hits("limited"));
+            assertTrue(elapsed >= 1000, "No se respetó Retry-After: " + elapsed + " ms");
+        }
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() throws Exception {
+        try (PokeApiClient client = new PokeApiClient(baseUrl(), 4, 3, Duration.ofMillis(1))) {
+            assertThrows(IOException.class, () -> client.fetchJson("broken"));
+            assertEquals(3, hits("broken"));
+            assertNull(client.fetchJson("missing"));
+            assertEquals(1, hits("missing"));
+        }
+    }
+
+    @Test
+    void boundsConcurrentRequests() throws Exception {
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            paths.add("slow/" + i);
+        }
+        try (PokeApiClient client = new PokeApiClient(baseUrl(), 4, 1, BACKOFF)) {
+            List<JsonObject> bodies = client.fetchAll(paths, client::fetchJson);
+
+            for (int i = 0; i < paths.size(); i++) {
+                assertEquals(paths.get(i), bodies.get(i).get("name").getAsString());
+            }
+        }
+        assertTrue(peak.get() <= 4, "Se superó el límite de concurrencia: " + peak.get());
+        assertTrue(peak.get() > 1, "Las peticiones no se hicieron en paralelo");
+    }
+
+    @Test
+    void fetchesEachMoveOnce() throws Exception {
+        List<String> moves = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            moves.add(i % 2 == 0 ? "test-tackle" : "test-growl");
+        }
+        try (PokeApiClient client = new PokeApiClient(baseUrl(), 8, 1, BACKOFF)) {
+            List<Boolean> attacks = client.fetchAll(moves,
+                    move -> PokemonDataLoader.isAttackMove(client, move, "move/" + move));
+
+            for (int i = 0; i < moves.size(); i++) {
+                assertEquals(i % 2 == 0, attacks.get(i));
+            }
+        }
+        assertEquals(1, hits("move/test-tackle"));
+        assertEquals(1, hits("move/test-growl"));
+    }
+}
@@ -0,0 +1,143 @@
+package utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RefreshJournalTest {
+
+    private static final Duration MAX_AGE = Duration.ofDays(1);
+
+    @TempDir
+    Path directory;
+
+    private static JsonObject value(String name) {
+        JsonObject value = new JsonObject();
+        value.addProperty("name", name);
+        return value;
+    }
+
+    private static String line(String key, long fetched, String name) {
+        return "{\"key\":\"" + key + "\",\"fetched\":" + fetched + ",\"value\":{\"name\":\"" + name + "\"}}\n";
+    }
+
+    private static void append(Path file, String text) throws IOException {
+        Files.writeString(file, text, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static JsonObject readOutput(Path output) throws IOException {
+        return new Gson().fromJson(Files.readString(output, StandardCharsets.UTF_8), JsonObject.class);
+    }
+
+    @Test
+    void dropsPartialTrailingLine() throws IOException {
+        Path file = directory.resolve("pokemon.json.journal");
+        try (RefreshJournal journal = new RefreshJournal(file, MAX_AGE)) {
+            journal.record("bulbasaur", value("Bulbasaur"));
+            journal.record("ivysaur", value("Ivysaur"));
+        }
+        long complete = Files.size(file);
+        append(file, "{\"key\":\"venusaur\",\"fetch");
+
+        try (RefreshJournal journal = new RefreshJournal(file, MAX_AGE)) {
+            assertEquals(complete, Files.size(file));
+            assertEquals(2, journal.size());
+            assertEquals(List.of("venusaur"), journal.pending(List.of("bulbasaur", "ivysaur", "venusaur")));
+            journal.record("venusaur", value("Venusaur"));
+        }
+
+        try (RefreshJournal journal = new RefreshJournal(file, MAX_AGE)) {
+            assertEquals(3, journal.size());
+            assertEquals("Venusaur", journal.get("venusaur").get("name").getAsString());
+        }
+    }
+
+    @Test
+    void skipsCorruptMiddleLines() throws IOException {
+        Path file = directory.resolve("moves.json.journal");
+        long now = System.currentTimeMillis();
+        append(file, line("pound", now, "Destructor") + "esto no es json\n" + "{\"key\":\"sin-valor\"}\n"
+                + line("ember", now, "Ascuas"));
+        Path output = directory.resolve("moves.json");
+
+        try (RefreshJournal journal = new RefreshJournal(file, MAX_AGE)) {
+            assertEquals(2, journal.size());
+            assertNull(journal.get("sin-valor"));
+            List<String> keys = List.of("pound", "sin-valor", "ember");
+            assertEquals(List.of("sin-valor"), journal.pending(keys));
+            journal.commit(output, keys);
+        }
+
+        JsonObject written = readOutput(output);
+        assertEquals(List.of("pound", "ember"), List.copyOf(written.keySet()));
+        assertEquals("Destructor", written.getAsJsonObject("pound").get("name").getAsString());
+        assertEquals("Ascuas", written.getAsJsonObject("ember").get("name").getAsString());
+    }
+
+    @Test
+    void compactsToLatestEntryPerCommittedKey() throws IOException {
+        Path file = directory.resolve("pokemon.json.journal");
+        Path output = directory.resolve("pokemon.json");
+        try (RefreshJournal journal = new RefreshJournal(file, MAX_AGE)) {
+            journal.record("pikachu", value("Pikachu viejo"));
+            journal.record("raichu", value("Raichu"));
+            journal.record("mew", value("Mew"));
+            journal.record("pikachu", value("Pikachu"));
+            journal.commit(output, List.of("raichu", "pikachu"));
+
+            assertEquals(2, journal.size());
+            assertEquals("Pikachu", journal.get("pikachu").get("name").getAsString());
+            journal.record("mew", value("Mew"));
+        }
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).contains("\"raichu\""));
+        assertTrue(lines.get(1).contains("\"Pikachu\""));
+        assertTrue(lines.get(2).contains("\"mew\""));
+
+        JsonObject written = readOutput(output);
+        assertEquals(List.of("raichu", "pikachu"), List.copyOf(written.keySet()));
+        assertEquals("Pikachu", written.getAsJsonObject("pikachu").get("name").getAsString());
+
+        try (RefreshJournal journal = new RefreshJournal(file, MAX_AGE)) {
+            assertEquals(3, journal.size());
+            assertTrue(journal.pending(List.of("raichu", "pikachu", "mew")).isEmpty());
+        }
+    }
+
+    @Test
+    void refetchesEntriesOlderThanMaxAge() throws IOException {
+        Path file = directory.resolve("moves.json.journal");
+        long now = System.currentTimeMillis();
+        append(file, line("tackle", now - Duration.ofDays(2).toMillis(), "Placaje")
+                + line("growl", now - Duration.ofHours(1).toMillis(), "Gruñido"));
+
+        try (RefreshJournal journal = new RefreshJournal(file, MAX_AGE)) {
+            assertFalse(journal.isFresh("tackle"));
+            assertTrue(journal.isFresh("growl"));
+            assertEquals(List.of("tackle", "swift"), journal.pending(List.of("tackle", "growl", "swift")));
+        }
+        try (RefreshJournal journal = new RefreshJournal(file, Duration.ZERO)) {
+            assertEquals(List.of("tackle", "growl"), journal.pending(List.of("tackle", "growl")));
+        }
+        try (RefreshJournal journal = new RefreshJournal(file, Duration.ofDays(3))) {
+            assertTrue(journal.pending(List.of("tackle", "growl")).isEmpty());
+        }
+    }
+}
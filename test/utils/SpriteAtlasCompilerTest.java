@@ -0,0 +1,119 @@
+package utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import model.SpriteAtlas;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpriteAtlasCompilerTest {
+
+    private static final int SPRITES = 24;
+
+    @TempDir
+    Path directory;
+
+    private HttpServer server;
+    private final Map<String, byte[]> sprites = new ConcurrentHashMap<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        Random random = new Random(22);
+        for (int i = 0; i < SPRITES; i++) {
+            byte[] sprite = new byte[256 + random.nextInt(4096)];
+            random.nextBytes(sprite);
+            sprites.put("sprite/" + i + ".png", sprite);
+        }
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(20);
+            byte[] sprite = sprites.get(exchange.getRequestURI().getPath().substring(1));
+            if (sprite == null) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            exchange.sendResponseHeaders(200, sprite.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(sprite);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    @Test
+    void packsDownloadedSpritesIntoMappedAtlas() throws Exception {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i <= SPRITES; i++) {
+            ids.add(i);
+        }
+        List<String> keys;
+        try (PokeApiClient client = new PokeApiClient(baseUrl, 8, 1, Duration.ofMillis(1))) {
+            keys = client.fetchAll(ids, id -> {
+                Path target = directory.resolve("sprites").resolve(id + ".png");
+                return client.download("sprite/" + id + ".png", target) ? SpriteAtlas.normalize(target.toString()) : null;
+            });
+        }
+        assertNull(keys.get(SPRITES));
+        assertTrue(peak.get() > 1, "Los sprites no se descargaron en paralelo");
+
+        List<String> downloaded = keys.subList(0, SPRITES);
+        List<String> requested = new ArrayList<>(downloaded);
+        requested.add(SpriteAtlas.normalize(directory.resolve("sprites").resolve("ausente.png").toString()));
+        Path output = directory.resolve("atlas.bin");
+        assertEquals(SPRITES, SpriteAtlasCompiler.compile(requested, output));
+
+        SpriteAtlas atlas = SpriteAtlas.open(output);
+        assertEquals(SPRITES, atlas.size());
+        for (int i = 0; i < SPRITES; i++) {
+            ByteBuffer mapped = atlas.getSprite(downloaded.get(i));
+            byte[] bytes = new byte[mapped.remaining()];
+            mapped.get(bytes);
+            assertArrayEquals(sprites.get("sprite/" + i + ".png"), bytes);
+            assertArrayEquals(Files.readAllBytes(Path.of(downloaded.get(i))), bytes);
+        }
+        assertNull(atlas.getSprite(requested.get(SPRITES)));
+    }
+}